@@ -3,9 +3,11 @@ package ai.jobsight;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @ConfigurationPropertiesScan(basePackages = "ai.jobsight")
+@EnableScheduling
 public class JobSightTest1Application {
 
     public static void main(String[] args) {
@@ -4,85 +4,110 @@ package ai.jobsight.api;
 import ai.jobsight.auth.JwtUtil;
 import ai.jobsight.auth.User;
 import ai.jobsight.auth.UserRepo;
+import ai.jobsight.auth.UserSummaryCache;
 import ai.jobsight.security.JwtService;
+import ai.jobsight.security.PasswordHasher;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.*;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 public class AuthController {
     private final UserRepo users;
-    private final PasswordEncoder encoder;
+    private final PasswordHasher hasher;
     private final JwtService jwt;
+    private final UserSummaryCache summaries;
 
     public record Creds(String email, String password) {}
 
+    /** Hashing runs on {@link PasswordHasher}'s pool; the servlet thread is released while it runs. */
     @PostMapping("/register")
-    public ResponseEntity<?> register(@RequestBody Creds c) {
+    public CompletableFuture<ResponseEntity<?>> register(@RequestBody Creds c) {
         if (c.email()==null || c.password()==null || c.password().length()<6)
-            return ResponseEntity.badRequest().body(Map.of("message","Invalid email or password too short"));
-        if (users.findByEmail(c.email().trim().toLowerCase()).isPresent())
-            return ResponseEntity.status(409).body(Map.of("message","Email already registered"));
-
-        var u = users.save(User.builder()
-                .email(c.email().trim().toLowerCase())
-                .passwordHash(encoder.encode(c.password()))
-                .createdAt(Instant.now()).build());
-
-        var token = jwt.issue(u.getId(), u.getEmail());
-
-        ResponseCookie cookie = ResponseCookie.from("jid", token)
-                .httpOnly(true)
-                .secure(false)
-                .sameSite("Lax")
-                .path("/")
-                .maxAge(Duration.ofDays(7))
-                .build();
-
-        return ResponseEntity.ok()
-                .header(HttpHeaders.SET_COOKIE, cookie.toString())
-                .body(Map.of("ok", true));
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(Map.of("message","Invalid email or password too short")));
+        var email = c.email().trim().toLowerCase();
+        if (users.findByEmail(email).isPresent())
+            return CompletableFuture.completedFuture(ResponseEntity.status(409).body(Map.of("message","Email already registered")));
+
+        return hasher.encode(c.password()).thenApply(hash -> {
+            var u = users.save(User.builder()
+                    .email(email)
+                    .passwordHash(hash)
+                    .createdAt(Instant.now()).build());
+
+            var token = jwt.issue(u.getId(), u.getEmail());
+
+            ResponseCookie cookie = ResponseCookie.from("jid", token)
+                    .httpOnly(true)
+                    .secure(false)
+                    .sameSite("Lax")
+                    .path("/")
+                    .maxAge(Duration.ofDays(7))
+                    .build();
+
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.SET_COOKIE, cookie.toString())
+                    .body(Map.of("ok", true));
+        });
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody Creds c) {
-        var u = users.findByEmail(c.email().trim().toLowerCase()).orElse(null);
-        if (u==null || !encoder.matches(c.password(), u.getPasswordHash()))
-            return ResponseEntity.status(401).body(Map.of("message","Invalid credentials"));
-
-        String token = jwt.issue(u.getId(), u.getEmail()); // <- your existing utility
-
-        ResponseCookie cookie = ResponseCookie.from("jid", token)
-                .httpOnly(true)
-                .sameSite("Lax")
-                .path("/")
-                .maxAge(Duration.ofDays(7))
-                .build();
-
-        return ResponseEntity.ok()
-                .header(HttpHeaders.SET_COOKIE, cookie.toString())
-                .body(Map.of(
-                        "user", Map.of("id", u.getId(), "email", u.getEmail()),
-                        "token", token //
-                ));
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody Creds c) {
+        var u = c.email()==null ? null : users.findByEmail(c.email().trim().toLowerCase()).orElse(null);
+        if (u==null || c.password()==null)
+            return CompletableFuture.completedFuture(ResponseEntity.status(401).body(Map.of("message","Invalid credentials")));
+
+        return hasher.matches(c.password(), u.getPasswordHash()).thenApply(ok -> {
+            if (!ok) return ResponseEntity.status(401).body(Map.of("message","Invalid credentials"));
+
+            if (hasher.needsRehash(u.getPasswordHash())) rehash(u, c.password());
+
+            String token = jwt.issue(u.getId(), u.getEmail()); // <- your existing utility
+
+            ResponseCookie cookie = ResponseCookie.from("jid", token)
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .path("/")
+                    .maxAge(Duration.ofDays(7))
+                    .build();
+
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.SET_COOKIE, cookie.toString())
+                    .body(Map.of(
+                            "user", Map.of("id", u.getId(), "email", u.getEmail()),
+                            "token", token //
+                    ));
+        });
     }
 
     @GetMapping("/me")
     public ResponseEntity<?> me(Authentication auth) {
         if (auth==null) return ResponseEntity.status(401).build();
         Long uid = (Long) auth.getPrincipal();
-        var u = users.findById(uid).orElse(null);
+        var u = summaries.get(uid).orElse(null);
         if (u==null) return ResponseEntity.status(401).build();
-        return ResponseEntity.ok(Map.of("id", u.getId(), "email", u.getEmail()));
+        return ResponseEntity.ok(Map.of("id", u.id(), "email", u.email()));
+    }
+
+    /** Stored with an outdated work factor: re-hash in the background, best effort (never fails the login). */
+    private void rehash(User u, String password) {
+        try {
+            hasher.encode(password).thenAccept(hash -> {
+                u.setPasswordHash(hash);
+                users.save(u);
+            }).exceptionally(e -> null);
+        } catch (Exception ignored) {
+            // pool saturated; try again on a later login
+        }
     }
 
     @PostMapping("/logout")
@@ -1,12 +1,16 @@
 package ai.jobsight.api;
 
 import ai.jobsight.domain.query.JobSearchQuery;
+import ai.jobsight.domain.query.KeysetCursor;
 import ai.jobsight.dto.*;
 import ai.jobsight.service.JobAggregationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/jobs")
 @RequiredArgsConstructor
@@ -27,4 +31,30 @@ public class JobController {
 
         return service.searchAndStore(q);
     }
+
+    @GetMapping("/{id:\\d+}")
+    public ResponseEntity<JobPostingDTO> byId(@PathVariable Long id) {
+        return ResponseEntity.of(service.byId(id));
+    }
+
+    /** Keyset ("load more") listing; pass back nextCursor from the previous response. */
+    @PostMapping("/scroll")
+    public ResponseEntity<?> scroll(@Valid @RequestBody JobSearchRequest req) {
+        KeysetCursor after;
+        try {
+            after = KeysetCursor.decode(req.cursor());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", "Invalid cursor"));
+        }
+        var q = JobSearchQuery.builder()
+                .title(req.title())
+                .location(req.location())
+                .techStack(req.techStack())
+                .remoteOnly(req.remoteOnly())
+                .page(0)
+                .size(req.size())
+                .build();
+
+        return ResponseEntity.ok(service.scroll(q, after, req.countMode()));
+    }
 }
@@ -1,7 +1,9 @@
 package ai.jobsight.api;
 
+import ai.jobsight.providers.adzuna.AdzunaPassthrough;
 import ai.jobsight.providers.adzuna.AdzunaService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,11 +17,13 @@ import org.springframework.web.bind.annotation.*;
 public class JobSearchController {
 
     private final AdzunaService adzuna;
+    private final AdzunaPassthrough passthrough;
 
     // Example:
     // /api/jobs/search?query=java&location=Warsaw&page=0&size=10&sortBy=date
+    // Streamed straight from Adzuna (status and encoding preserved) unless providers.adzuna.passthrough.enabled=false
     @GetMapping("/search")
-    public ResponseEntity<String> search(
+    public ResponseEntity<?> search(
             @RequestParam(required = false, name = "what") String what,
             @RequestParam(required = false, name = "query") String queryAlias,
             @RequestParam(required = false, name = "whatExclude") String whatExclude,
@@ -30,11 +34,17 @@ public class JobSearchController {
             @RequestParam(required = false, defaultValue = "false") boolean permanent,
             @RequestParam(required = false, defaultValue = "date") String sortBy,
             @RequestParam(required = false, defaultValue = "0") int page,
-            @RequestParam(required = false, defaultValue = "20") int size
+            @RequestParam(required = false, defaultValue = "20") int size,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
         String effectiveWhat = (what != null && !what.isBlank()) ? what : queryAlias;
         String effectiveWhere = (where != null && !where.isBlank()) ? where : locationAlias;
 
+        if (passthrough.enabled()) {
+            return passthrough.search(effectiveWhat, whatExclude, effectiveWhere, salaryMin,
+                    fullTime, permanent, sortBy, page, size, acceptEncoding);
+        }
+
         String json = adzuna.search(
                 effectiveWhat,
                 whatExclude,
@@ -14,6 +14,7 @@ public class QuizController {
 
     @Data public static class QuizRequest {
         private List<String> selections;
+        private List<String> skills;     // optional; breaks ties between equally picked roles
     }
     @Data public static class QuizResult {
         private String roleId;
@@ -27,11 +28,14 @@ public class QuizController {
     @PostMapping("/evaluate")
     public QuizResult evaluate(@RequestBody QuizRequest req) {
         var tally = new HashMap<String,Integer>();
-        for (var pick : req.getSelections()) {
+        for (var pick : req.getSelections() == null ? List.<String>of() : req.getSelections()) {
             tally.merge(pick, 1, Integer::sum);
         }
+        long[] have = templates.encode(req.getSkills());
         var best = tally.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
+                .max(Map.Entry.<String,Integer>comparingByValue()
+                        .thenComparingInt(e -> templates.byId(e.getKey())
+                                .map(r -> RoadmapTemplates.matched(r, have)).orElse(-1)))
                 .map(Map.Entry::getKey)
                 .orElse("java-backend");
 
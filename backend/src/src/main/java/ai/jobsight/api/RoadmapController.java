@@ -1,44 +1,47 @@
 package ai.jobsight.api;
 
 import ai.jobsight.dto.PreciseRoadmapRequest;
+import ai.jobsight.resume.SkillExtractor;
 import ai.jobsight.service.ProfileService;
 import ai.jobsight.service.RoadmapGeneratorService;
 import ai.jobsight.service.RoadmapService;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestClient;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @RestController
 @RequestMapping("/api/roadmap")
 public class RoadmapController {
 
-    private final RestClient resumeClient;
+    private final SkillExtractor extractor;
     private final RoadmapService roadmapService;
     private final ProfileService profileService;
     private final RoadmapGeneratorService service;
+    private final Duration streamTimeout;
 
-    // EXPLICIT constructor with qualifier for the resume client
     public RoadmapController(
-            @Qualifier("resumeClient") RestClient resumeClient,
+            SkillExtractor extractor,
             RoadmapService roadmapService,
             ProfileService profileService,
-            RoadmapGeneratorService service
+            RoadmapGeneratorService service,
+            @Value("${roadmap.stream.timeout:5m}") Duration streamTimeout
     ) {
-        this.resumeClient = resumeClient;
+        this.extractor = extractor;
         this.roadmapService = roadmapService;
         this.profileService = profileService;
         this.service = service;
+        this.streamTimeout = streamTimeout;
     }
     @PostMapping(value = "/precise", consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE)
@@ -46,6 +49,45 @@ public class RoadmapController {
         return service.buildPrecisePlan(req);
     }
 
+    /**
+     * SSE variant of /precise: "chunk" events ({"text": ...}) as Ollama generates, then one "done" event
+     * with the same body /precise returns ({"model", "plan"}), or an "error" event.
+     * Generation runs on a virtual thread, not a servlet thread; a client disconnect cancels it upstream.
+     */
+    @PostMapping(value = "/precise/stream", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter preciseStream(@RequestBody PreciseRoadmapRequest req) {
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        AtomicBoolean cancelled = new AtomicBoolean();
+        emitter.onCompletion(() -> cancelled.set(true));
+        emitter.onTimeout(() -> cancelled.set(true));
+        emitter.onError(e -> cancelled.set(true));
+
+        Thread.ofVirtual().name("roadmap-stream").start(() -> {
+            try {
+                var result = service.streamPrecisePlan(req, chunk -> {
+                    try {
+                        emitter.send(SseEmitter.event().name("chunk").data(Map.of("text", chunk)));
+                    } catch (IOException | IllegalStateException e) {
+                        cancelled.set(true); // client gone; stop reading from Ollama
+                    }
+                }, cancelled::get);
+                emitter.send(SseEmitter.event().name("done").data(result));
+                emitter.complete();
+            } catch (CancellationException e) {
+                emitter.complete();
+            } catch (Exception e) {
+                try {
+                    emitter.send(SseEmitter.event().name("error").data(Map.of("message", String.valueOf(e.getMessage()))));
+                    emitter.complete();
+                } catch (Exception ignored) {
+                    emitter.completeWithError(e);
+                }
+            }
+        });
+        return emitter;
+    }
+
     @Data public static class FromSkillsRequest {
         private List<String> skills;
         private String roleId;
@@ -59,25 +101,8 @@ public class RoadmapController {
             @RequestPart("file") MultipartFile file,
             @RequestParam(required = false) String roleId,
             @RequestParam(defaultValue = "1") Long userId
-    ) throws IOException {
-
-        var resource = new ByteArrayResource(file.getBytes()) {
-            @Override public String getFilename() {
-                return file.getOriginalFilename() != null ? file.getOriginalFilename() : "resume.txt";
-            }
-        };
-        MultiValueMap<String, Object> parts = new LinkedMultiValueMap<>();
-        parts.add("file", resource);
-
-        @SuppressWarnings("unchecked")
-        var body = (Map<String, Object>) resumeClient.post()
-                .uri("/analyze")
-                .contentType(MediaType.MULTIPART_FORM_DATA)
-                .body(parts)
-                .retrieve()
-                .body(Map.class);
-
-        var skills = (List<String>) body.getOrDefault("skills", List.of());
+    ) throws Exception {
+        var skills = extractor.extract(file);
         profileService.saveSkills(userId, skills);
         return roadmapService.buildFromSkills(skills, roleId == null ? "java-backend" : roleId);
     }
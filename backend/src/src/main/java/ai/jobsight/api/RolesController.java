@@ -1,8 +1,17 @@
 package ai.jobsight.api;
 
 import ai.jobsight.service.RoadmapTemplates;
+import ai.jobsight.service.RoleRecommender;
+import ai.jobsight.web.ConditionalGet;
+import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -10,9 +19,26 @@ import java.util.List;
 @RequestMapping("/api/roles")
 public class RolesController {
     private final RoadmapTemplates templates;
+    private final RoleRecommender recommender;
+
+    @Value("${http.cache.roles-max-age:1h}")
+    private Duration maxAge;
+
+    @Data public static class RecommendRequest {
+        private List<String> skills;
+        private Integer limit;
+    }
 
+    /** Static per catalog version; clients revalidate with If-None-Match and get 304. */
     @GetMapping
-    public List<RoadmapTemplates.RoleTemplate> list() {
-        return templates.all();
+    public ResponseEntity<List<RoadmapTemplates.RoleTemplate>> list(ServletWebRequest request) {
+        return ConditionalGet.respond(request, "roles-" + templates.version(),
+                CacheControl.maxAge(maxAge).cachePublic(), templates::all);
+    }
+
+    /** Roles ranked by how many of their target skills the user already has. */
+    @PostMapping("/recommend")
+    public List<RoleRecommender.RoleMatch> recommend(@RequestBody RecommendRequest req) {
+        return recommender.recommend(req.getSkills(), req.getLimit() == null ? 5 : Math.min(req.getLimit(), 50));
     }
 }
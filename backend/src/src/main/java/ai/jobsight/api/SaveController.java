@@ -1,11 +1,15 @@
 // src/main/java/ai/jobsight/api/SaveController.java
 package ai.jobsight.api;
 
+import ai.jobsight.domain.query.KeysetCursor;
+import ai.jobsight.dto.CursorPage;
+import ai.jobsight.dto.SavedSummaryDTO;
 import ai.jobsight.repo.*;
 import ai.jobsight.save.*;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -15,6 +19,8 @@ import java.net.URI;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/saved")
@@ -29,6 +35,40 @@ public class SaveController {
 
     private Long uid(Authentication a){ return (Long)a.getPrincipal(); }
 
+    @FunctionalInterface
+    private interface SummaryQuery {
+        List<SavedSummaryDTO> fetch(Long userId, Instant at, long id, Limit limit);
+    }
+
+    /**
+     * Keyset page of summaries, newest first; pass back nextCursor for the next page.
+     * The full lists below stay for existing clients.
+     */
+    private ResponseEntity<?> summaries(Long userId, String cursor, int size, SummaryQuery query) {
+        if (userId == null) return ResponseEntity.status(401).body(Map.of("message","Unauthorized"));
+        KeysetCursor after;
+        try {
+            after = KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", "Invalid cursor"));
+        }
+        int n = Math.min(Math.max(size, 1), 100);
+        var rows = query.fetch(userId, after.at(), after.id(), Limit.of(n + 1)); // one extra row tells if there is a next page
+        String next = null;
+        if (rows.size() > n) {
+            rows = rows.subList(0, n);
+            var last = rows.get(n - 1);
+            next = new KeysetCursor(last.createdAt(), last.id()).encode();
+        }
+        return ResponseEntity.ok(new CursorPage<>(rows, next, null, false, Map.of()));
+    }
+
+    private static <T> ResponseEntity<?> owned(Optional<T> row, Function<T, Long> owner, Long userId) {
+        return row.filter(r -> owner.apply(r).equals(userId))
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
 
     @PostMapping("/searches")
     public ResponseEntity<?> saveSearch(@AuthenticationPrincipal Long userId,
@@ -47,6 +87,18 @@ public class SaveController {
         return searches.findByUserId(userId);
     }
 
+    @GetMapping("/searches/summaries")
+    public ResponseEntity<?> searchSummaries(@AuthenticationPrincipal Long userId,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(defaultValue = "20") int size) {
+        return summaries(userId, cursor, size, searches::summaries);
+    }
+
+    @GetMapping("/searches/{id:\\d+}")
+    public ResponseEntity<?> getSearch(@PathVariable Long id, @AuthenticationPrincipal Long userId) {
+        return owned(searches.findById(id), SavedSearch::getUserId, userId);
+    }
+
     @DeleteMapping("/searches/{id}")
     public ResponseEntity<?> delSearch(@PathVariable Long id,
                                        @AuthenticationPrincipal Long userId) {
@@ -73,6 +125,18 @@ public class SaveController {
         return compares.findByUserId(userId);
     }
 
+    @GetMapping("/compares/summaries")
+    public ResponseEntity<?> compareSummaries(@AuthenticationPrincipal Long userId,
+                                              @RequestParam(required = false) String cursor,
+                                              @RequestParam(defaultValue = "20") int size) {
+        return summaries(userId, cursor, size, compares::summaries);
+    }
+
+    @GetMapping("/compares/{id:\\d+}")
+    public ResponseEntity<?> getCompare(@PathVariable Long id, @AuthenticationPrincipal Long userId) {
+        return owned(compares.findById(id), SavedCompare::getUserId, userId);
+    }
+
     @DeleteMapping("/compares/{id}")
     public ResponseEntity<?> delCompare(@PathVariable Long id,
                                         @AuthenticationPrincipal Long userId) {
@@ -99,6 +163,18 @@ public class SaveController {
         return quizzes.findByUserId(userId);
     }
 
+    @GetMapping("/quiz/summaries")
+    public ResponseEntity<?> quizSummaries(@AuthenticationPrincipal Long userId,
+                                           @RequestParam(required = false) String cursor,
+                                           @RequestParam(defaultValue = "20") int size) {
+        return summaries(userId, cursor, size, quizzes::summaries);
+    }
+
+    @GetMapping("/quiz/{id:\\d+}")
+    public ResponseEntity<?> getQuiz(@PathVariable Long id, @AuthenticationPrincipal Long userId) {
+        return owned(quizzes.findById(id), SavedQuizResult::getUserId, userId);
+    }
+
     @PostMapping("/roadmaps")
     public SavedRoadmap saveRoadmap(@RequestBody Map<String, Object> body, Authentication a) {
         var r = new SavedRoadmap();
@@ -130,6 +206,18 @@ public class SaveController {
         return roadmaps.findByUserId(uid(a));
     }
 
+    @GetMapping("/roadmaps/summaries")
+    public ResponseEntity<?> roadmapSummaries(@AuthenticationPrincipal Long userId,
+                                              @RequestParam(required = false) String cursor,
+                                              @RequestParam(defaultValue = "20") int size) {
+        return summaries(userId, cursor, size, roadmaps::summaries);
+    }
+
+    @GetMapping("/roadmaps/{id:\\d+}")
+    public ResponseEntity<?> getRoadmap(@PathVariable Long id, @AuthenticationPrincipal Long userId) {
+        return owned(roadmaps.findById(id), SavedRoadmap::getUserId, userId);
+    }
+
     @DeleteMapping("/roadmaps/{id}")
     public ResponseEntity<?> delRoadmap(@PathVariable Long id, Authentication a) {
         roadmaps.findById(id).filter(x -> x.getUserId().equals(uid(a))).ifPresent(roadmaps::delete);
@@ -2,9 +2,15 @@ package ai.jobsight.api;
 
 import ai.jobsight.dto.SkillStatDTO;
 import ai.jobsight.service.StatsService;
+import ai.jobsight.web.ConditionalGet;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -13,10 +19,21 @@ import java.util.List;
 public class StatsController {
     private final StatsService stats;
 
+    @Value("${http.cache.stats-max-age:60s}")
+    private Duration maxAge;
+
+    /**
+     * Served conditionally. SQL answers change only when postings are ingested and may be cached publicly;
+     * sketch answers differ per instance, so they get a weak ETag and private caching only.
+     */
     @GetMapping("/skills")
-    public List<SkillStatDTO> topSkills(@RequestParam(required = false) String title,
-                                        @RequestParam(required = false) String location,
-                                        @RequestParam(defaultValue = "15") int limit) {
-        return stats.topSkills(title, location, limit);
+    public ResponseEntity<List<SkillStatDTO>> topSkills(@RequestParam(required = false) String title,
+                                                        @RequestParam(required = false) String location,
+                                                        @RequestParam(defaultValue = "15") int limit,
+                                                        ServletWebRequest request) {
+        var plan = stats.plan(title, location, limit);
+        CacheControl cache = CacheControl.maxAge(maxAge);
+        return ConditionalGet.respond(request, plan.version(), plan.perInstance(),
+                plan.perInstance() ? cache.cachePrivate() : cache.cachePublic(), plan.body());
     }
 }
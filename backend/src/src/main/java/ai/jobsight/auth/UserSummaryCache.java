@@ -0,0 +1,55 @@
+package ai.jobsight.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/** Short-lived id -> (id, email) cache behind /api/auth/me; misses (unknown ids) are not cached. */
+@Component
+public class UserSummaryCache {
+
+    public record Summary(Long id, String email) {}
+
+    private final UserRepo users;
+    private final Cache<Long, Summary> cache;
+
+    public UserSummaryCache(
+            UserRepo users,
+            @Value("${auth.user-cache.max-size:10000}") long maxSize,
+            @Value("${auth.user-cache.ttl:30s}") Duration ttl
+    ) {
+        this.users = users;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<Summary> get(Long id) {
+        Summary s = cache.getIfPresent(id);
+        if (s != null) return Optional.of(s);
+        return users.findById(id).map(u -> {
+            Summary loaded = new Summary(u.getId(), u.getEmail());
+            cache.put(id, loaded);
+            return loaded;
+        });
+    }
+
+    public void evict(Long id) {
+        cache.invalidate(id);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public Cache<Long, ?> cache() {
+        return cache;
+    }
+}
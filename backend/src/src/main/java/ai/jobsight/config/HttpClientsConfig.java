@@ -3,9 +3,12 @@ package ai.jobsight.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 @Configuration
 public class HttpClientsConfig {
 
@@ -14,17 +17,19 @@ public class HttpClientsConfig {
         return RestClient.builder();
     }
 
-    @Bean // used by /api/roadmap/from-resume
+    /**
+     * Used by RemoteSkillExtractor. The JDK client factory writes the multipart body straight to the
+     * connection (the upload's temp file is read as it is sent), so the CV is never buffered in memory.
+     */
+    @Bean
     public RestClient resumeClient(RestClient.Builder b,
-                                   @Value("${RESUME_ANALYZER_BASE_URL:http://resume-analyzer:9000}") String base) {
-        return b.baseUrl(base).build();
+                                   @Value("${RESUME_ANALYZER_BASE_URL:${resume.analyzer.baseUrl}}") String base,
+                                   @Value("${resume.analyzer.connect-timeout:3s}") Duration connectTimeout,
+                                   @Value("${resume.analyzer.read-timeout:60s}") Duration readTimeout) {
+        var factory = new JdkClientHttpRequestFactory(HttpClient.newBuilder().connectTimeout(connectTimeout).build());
+        factory.setReadTimeout(readTimeout);
+        return b.clone().baseUrl(base).requestFactory(factory).build();
     }
 
-    @Bean // used by Adzuna service
-    public RestClient adzunaRestClient(RestClient.Builder b,
-                                       @Value("${ADZUNA_BASE_URL:https://api.adzuna.com/v1/api/jobs}") String base) {
-        return b.baseUrl(base).build();
-    }
-
-
+    // adzunaRestClient (pooled, shared by every Adzuna call) lives in AdzunaConfig
 }
@@ -0,0 +1,94 @@
+package ai.jobsight.config;
+
+import ai.jobsight.auth.UserSummaryCache;
+import ai.jobsight.providers.cache.ProviderResponseCache;
+import ai.jobsight.providers.cache.SingleFlight;
+import ai.jobsight.security.PasswordHasher;
+import ai.jobsight.security.VerifiedTokenCache;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Locale;
+
+/**
+ * Gauges and counters over state the components already track (cache, single-flight, hashing pool,
+ * auth caches; the Adzuna pool binds itself in {@code AdzunaPoolStats}). Request timers live next to the code they time; Resilience4j's own
+ * circuit breaker / retry call metrics are bound by its Spring Boot starter, and state transitions
+ * and retry attempts are counted (and logged) here as events.
+ */
+@Slf4j
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder providerCacheMetrics(ProviderResponseCache cache) {
+        return registry -> {
+            FunctionCounter.builder("jobsight.provider.cache", cache, c -> c.stats().hits()).tag("result", "hit").register(registry);
+            FunctionCounter.builder("jobsight.provider.cache", cache, c -> c.stats().staleHits()).tag("result", "stale").register(registry);
+            FunctionCounter.builder("jobsight.provider.cache", cache, c -> c.stats().misses()).tag("result", "miss").register(registry);
+            FunctionCounter.builder("jobsight.provider.cache.load.failures", cache, c -> c.stats().loadFailures()).register(registry);
+            Gauge.builder("jobsight.provider.cache.size", cache, c -> c.stats().size()).register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder singleFlightMetrics(SingleFlight singleFlight) {
+        return registry -> {
+            FunctionCounter.builder("jobsight.singleflight.calls", singleFlight, s -> s.stats().leaders()).tag("role", "leader").register(registry);
+            FunctionCounter.builder("jobsight.singleflight.calls", singleFlight, s -> s.stats().coalesced()).tag("role", "coalesced").register(registry);
+            Gauge.builder("jobsight.singleflight.in-flight", singleFlight, s -> s.stats().inFlight()).register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder passwordHasherMetrics(PasswordHasher hasher) {
+        return registry -> {
+            Gauge.builder("jobsight.auth.hashing.queued", hasher, PasswordHasher::queued).register(registry);
+            Gauge.builder("jobsight.auth.hashing.active", hasher, PasswordHasher::active).register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder authCacheMetrics(VerifiedTokenCache tokens, UserSummaryCache users) {
+        return registry -> {
+            CaffeineCacheMetrics.monitor(registry, tokens.cache(), "verified-tokens");
+            CaffeineCacheMetrics.monitor(registry, users.cache(), "user-summaries");
+        };
+    }
+
+    @Bean
+    public MeterBinder resilienceEventMetrics(CircuitBreakerRegistry breakers, RetryRegistry retries) {
+        return registry -> {
+            breakers.getAllCircuitBreakers().forEach(cb -> onEvents(registry, cb));
+            breakers.getEventPublisher().onEntryAdded((EntryAddedEvent<CircuitBreaker> e) -> onEvents(registry, e.getAddedEntry()));
+            retries.getAllRetries().forEach(r -> onEvents(registry, r));
+            retries.getEventPublisher().onEntryAdded((EntryAddedEvent<Retry> e) -> onEvents(registry, e.getAddedEntry()));
+        };
+    }
+
+    private static void onEvents(MeterRegistry registry, CircuitBreaker cb) {
+        cb.getEventPublisher().onStateTransition(e -> {
+            var t = e.getStateTransition();
+            log.warn("Circuit breaker {}: {} -> {}", cb.getName(), t.getFromState(), t.getToState());
+            registry.counter("jobsight.resilience.circuitbreaker.transitions", "name", cb.getName(),
+                    "to", t.getToState().name().toLowerCase(Locale.ROOT)).increment();
+        });
+    }
+
+    private static void onEvents(MeterRegistry registry, Retry retry) {
+        retry.getEventPublisher()
+                .onRetry(e -> registry.counter("jobsight.resilience.retry.events", "name", retry.getName(), "kind", "retry").increment())
+                .onError(e -> registry.counter("jobsight.resilience.retry.events", "name", retry.getName(), "kind", "exhausted").increment());
+    }
+}
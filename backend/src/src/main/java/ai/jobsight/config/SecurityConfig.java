@@ -1,18 +1,21 @@
 package ai.jobsight.config;
 
 import ai.jobsight.security.JwtAuthFilter;
+import ai.jobsight.security.PasswordHasher;
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.*;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
 import org.springframework.security.oauth2.jwt.*;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.*;
 
 import javax.crypto.SecretKey;
@@ -23,10 +26,10 @@ import java.util.List;
 @Configuration
 public class SecurityConfig {
 
-    // Password hashing
+    // Password hashing (work factor calibrated at startup, see PasswordHasher)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHasher hasher) {
+        return hasher.encoder();
     }
 
     // JWT encoder/decoder using the same secret
@@ -44,8 +47,15 @@ public class SecurityConfig {
                 .build();
     }
 
+    /**
+     * Actuator is served on its own (unpublished) management port. The Prometheus scrape carries metric names and
+     * tag values (models, routes, cache names), so it is open only there; elsewhere actuator needs authentication.
+     */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http, JwtAuthFilter jwtFilter) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtAuthFilter jwtFilter,
+                                           @Value("${management.server.port:-1}") int managementPort) throws Exception {
+        RequestMatcher onManagementPort = request -> managementPort > 0 && request.getLocalPort() == managementPort;
+
         http.csrf(csrf -> csrf.disable());
         http.cors(Customizer.withDefaults());
         http.sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
@@ -56,7 +66,9 @@ public class SecurityConfig {
                 .requestMatchers("/api/resume/**").permitAll()
                 .requestMatchers("/api/roadmap/**").permitAll()
                 .requestMatchers("/api/jobs/**").permitAll()
-                .requestMatchers("/actuator/**").permitAll()
+                .requestMatchers("/actuator/health/**").permitAll()
+                .requestMatchers(new AndRequestMatcher(onManagementPort, PathPatternRequestMatcher.withDefaults().matcher("/actuator/prometheus"))).permitAll()
+                .requestMatchers("/actuator/**").authenticated()
 
                 .requestMatchers("/api/saved/**").authenticated() // cookie/JWT required
 
@@ -0,0 +1,4 @@
+package ai.jobsight.domain.query;
+
+/** How listing totals are computed: exact count(*), counted up to a cap, or skipped. */
+public enum CountMode { EXACT, CAPPED, NONE }
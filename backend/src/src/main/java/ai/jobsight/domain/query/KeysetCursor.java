@@ -0,0 +1,34 @@
+package ai.jobsight.domain.query;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * Position in a (createdAt/postedAt DESC, id DESC) listing, exchanged with clients as an opaque string.
+ * Microsecond precision matches Postgres timestamps, so no row is skipped or repeated.
+ */
+public record KeysetCursor(Instant at, long id) {
+
+    /** Sorts before every real row: used for the first page. */
+    public static final KeysetCursor START = new KeysetCursor(Instant.parse("9999-12-31T00:00:00Z"), Long.MAX_VALUE);
+
+    public String encode() {
+        String raw = ChronoUnit.MICROS.between(Instant.EPOCH, at) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /** @throws IllegalArgumentException for malformed cursors */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return START;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int sep = raw.indexOf(':');
+            long micros = Long.parseLong(raw.substring(0, sep));
+            return new KeysetCursor(Instant.EPOCH.plus(micros, ChronoUnit.MICROS), Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+}
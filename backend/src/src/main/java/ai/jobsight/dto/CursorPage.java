@@ -0,0 +1,19 @@
+package ai.jobsight.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keyset page.
+ * @param nextCursor           opaque cursor for the next page, null on the last page
+ * @param totalElements        only on the first page; null when not counted
+ * @param totalCapped          true if the real total is larger than totalElements
+ * @param unavailableProviders see {@link PagedResponse#unavailableProviders()}
+ */
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor,
+        Long totalElements,
+        boolean totalCapped,
+        Map<String, String> unavailableProviders
+) {}
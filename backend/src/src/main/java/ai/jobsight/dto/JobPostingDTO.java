@@ -1,6 +1,7 @@
 package ai.jobsight.dto;
 
 import ai.jobsight.domain.enums.WorkType;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 import java.time.Instant;
@@ -20,4 +21,6 @@ public class JobPostingDTO {
     public Instant postedAt;
     public String url;
     public String provider;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public String description; // detail view only
 }
@@ -1,5 +1,6 @@
 package ai.jobsight.dto;
 
+import ai.jobsight.domain.query.CountMode;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
@@ -12,5 +13,7 @@ public record JobSearchRequest(
         Set<String> techStack,
         Boolean remoteOnly,
         @Min(0) Integer page,
-        @Min(1) @Max(100) Integer size
+        @Min(1) @Max(100) Integer size,
+        String cursor,         // keyset listing only (POST /api/jobs/scroll)
+        CountMode countMode    // keyset listing only; defaults to CAPPED
 ) {}
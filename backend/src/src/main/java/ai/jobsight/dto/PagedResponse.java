@@ -1,10 +1,19 @@
 package ai.jobsight.dto;
 
 import java.util.List;
+import java.util.Map;
 
+/**
+ * @param unavailableProviders providers that timed out or failed for this search (name -> TIMEOUT | ERROR)
+ */
 public record PagedResponse<T>(
         List<T> content,
         long totalElements,
         int page,
-        int size
-) {}
+        int size,
+        Map<String, String> unavailableProviders
+) {
+    public PagedResponse(List<T> content, long totalElements, int page, int size) {
+        this(content, totalElements, page, size, Map.of());
+    }
+}
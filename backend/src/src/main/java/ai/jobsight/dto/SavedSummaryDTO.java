@@ -0,0 +1,6 @@
+package ai.jobsight.dto;
+
+import java.time.Instant;
+
+/** List-view row for any saved item; the payload (plan, jobs, result JSON) comes from the detail endpoint. */
+public record SavedSummaryDTO(Long id, String title, String source, Instant createdAt) {}
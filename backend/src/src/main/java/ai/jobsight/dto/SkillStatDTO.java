@@ -1,6 +1,8 @@
 package ai.jobsight.dto;
 
+/** {@code estimated}: count is an upper bound from an in-memory sketch rather than an exact SQL count. */
 public record SkillStatDTO(
         String skill,
-        long count
+        long count,
+        boolean estimated
 ) {}
@@ -0,0 +1,27 @@
+package ai.jobsight.ingest;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Postgres transaction-scoped advisory lock, so replicas coordinate without pinning a pooled connection:
+ * the lock is held only by the short transaction around the task and released at commit or rollback.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdvisoryLock {
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+
+    /** Runs {@code task} in one transaction holding lock (space, key); false without running it if another session holds it. */
+    public boolean tryInTransaction(int space, int key, BooleanSupplier task) {
+        Boolean result = tx.execute(status ->
+                Boolean.TRUE.equals(jdbc.queryForObject("select pg_try_advisory_xact_lock(?, ?)", Boolean.class, space, key))
+                        && task.getAsBoolean());
+        return Boolean.TRUE.equals(result);
+    }
+}
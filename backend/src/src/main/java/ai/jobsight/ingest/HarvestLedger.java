@@ -0,0 +1,71 @@
+package ai.jobsight.ingest;
+
+import ai.jobsight.domain.query.JobSearchQuery;
+import ai.jobsight.providers.cache.QueryKey;
+import ai.jobsight.repo.HarvestMarkRepo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Remembers which queries background ingestion has harvested and how deep.
+ * Lets interactive search read the local table instead of waiting on providers.
+ * Marks live in the harvest_ledger table; a replica claims a due target (under a per-target
+ * advisory lock) before harvesting it, so every replica skips targets another one harvests or
+ * harvested and serves them warm.
+ */
+@Component
+@RequiredArgsConstructor
+public class HarvestLedger {
+
+    /** First half of the two-int advisory lock key; the second is the target key's hash. */
+    static final int LOCK_SPACE = 7_301_422;
+
+    private final HarvestMarkRepo marks;
+    private final AdvisoryLock lock;
+
+    /**
+     * Claims a due target for {@code lease}; false if it is not due, or another replica holds or is taking the claim.
+     * A claim left by a replica that died expires with the lease.
+     */
+    boolean claim(String what, String where, Duration interval, Duration lease, Instant now) {
+        String key = key(what, where);
+        return lock.tryInTransaction(LOCK_SPACE, key.hashCode(), () -> {
+            HarvestMark m = marks.findById(key)
+                    .orElseGet(() -> new HarvestMark(key, Instant.EPOCH, 0, interval.toSeconds(), null));
+            if (m.getHarvestedAt().plus(interval).isAfter(now)) return false;
+            if (m.getClaimedUntil() != null && m.getClaimedUntil().isAfter(now)) return false;
+            m.setClaimedUntil(now.plus(lease));
+            marks.save(m);
+            return true;
+        });
+    }
+
+    /** Gives up a claim after a failed harvest, so the next tick retries. */
+    void release(String what, String where) {
+        marks.findById(key(what, where)).ifPresent(m -> {
+            m.setClaimedUntil(null);
+            marks.save(m);
+        });
+    }
+
+    /** Completes a claim. */
+    void record(String what, String where, int rows, Duration interval) {
+        marks.save(new HarvestMark(key(what, where), Instant.now(), rows, interval.toSeconds(), null));
+    }
+
+    /** True if the requested page lies within a harvest that is still inside its interval. */
+    public boolean isWarm(JobSearchQuery q) {
+        HarvestMark m = marks.findById(key(q.title(), q.location())).orElse(null);
+        if (m == null || m.getHarvestedAt().plusSeconds(m.getIntervalSeconds()).isBefore(Instant.now())) return false;
+        int page = q.page() == null ? 0 : q.page();
+        int size = q.size() == null ? 20 : q.size();
+        return (long) (page + 1) * size <= m.getRowCount();
+    }
+
+    private static String key(String what, String where) {
+        return QueryKey.of("harvest", what == null ? "" : what, where == null ? "" : where);
+    }
+}
@@ -0,0 +1,28 @@
+package ai.jobsight.ingest;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/** Last harvest of one (what, where) target; shared by every replica through the database. */
+@Entity
+@Table(name = "harvest_ledger")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class HarvestMark {
+    @Id
+    @Column(name = "target_key", length = 512)
+    private String targetKey;          // QueryKey of (what, where)
+
+    @Column(name = "harvested_at", nullable = false)
+    private Instant harvestedAt;
+
+    @Column(name = "row_count", nullable = false)
+    private int rowCount;
+
+    @Column(name = "interval_seconds", nullable = false)
+    private long intervalSeconds;
+
+    @Column(name = "claimed_until")
+    private Instant claimedUntil;      // set while a replica harvests the target
+}
@@ -0,0 +1,39 @@
+package ai.jobsight.ingest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter @Setter
+@ConfigurationProperties(prefix = "ingestion")
+public class IngestionProperties {
+    private boolean enabled = false;
+    /** Default re-harvest interval for a query. */
+    private Duration interval = Duration.ofMinutes(30);
+    /** Default number of provider pages harvested per query. */
+    private int maxPages = 3;
+    private int pageSize = 50;
+    /** Upper bound on distinct SavedSearch rows turned into harvest queries. */
+    private int savedSearchLimit = 200;
+    /** Role keywords harvested for {@link #defaultLocation}. */
+    private List<String> roleKeywords = new ArrayList<>();
+    private String defaultLocation = "";
+    private List<Query> queries = new ArrayList<>();
+    /** How long a replica's claim on a target lasts if it never completes (e.g. the replica died). */
+    private Duration claimLease = Duration.ofMinutes(10);
+    /** (provider, providerId) pairs the bulk writer remembers as already stored. */
+    private int seenCacheSize = 50_000;
+
+    @Getter @Setter
+    public static class Query {
+        private String what;
+        private String where = "";
+        /** Overrides the default interval / page limit when set. */
+        private Duration interval;
+        private Integer maxPages;
+    }
+}
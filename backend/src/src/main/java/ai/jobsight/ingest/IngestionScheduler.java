@@ -0,0 +1,101 @@
+package ai.jobsight.ingest;
+
+import ai.jobsight.domain.query.JobSearchQuery;
+import ai.jobsight.providers.cache.QueryKey;
+import ai.jobsight.repo.SavedSearchRepo;
+import ai.jobsight.service.JobAggregationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Periodically harvests popular queries into job_postings through the regular providers,
+ * so interactive search finds a warm table.
+ * Query set: configured queries, then role keywords, then the most common SavedSearch rows.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngestionScheduler {
+
+    private record Target(String what, String where, Duration interval, int maxPages) {}
+
+    private final IngestionProperties props;
+    private final JobAggregationService aggregation;
+    private final SavedSearchRepo savedSearches;
+    private final HarvestLedger ledger;
+
+    @Scheduled(fixedDelayString = "${ingestion.tick:60s}", initialDelayString = "${ingestion.initial-delay:30s}")
+    public void tick() {
+        if (!props.isEnabled()) return;
+        try {
+            harvestDue();
+        } catch (Exception e) {
+            log.warn("Ingestion tick failed", e);
+        }
+    }
+
+    /** Harvests every due target this replica manages to claim; no DB connection is held while providers are called. */
+    private void harvestDue() {
+        Instant now = Instant.now();
+        for (Target t : targets()) {
+            if (!ledger.claim(t.what(), t.where(), t.interval(), props.getClaimLease(), now)) continue;
+            int rows;
+            try {
+                rows = harvest(t);
+            } catch (RuntimeException e) {
+                ledger.release(t.what(), t.where());
+                throw e;
+            }
+            ledger.record(t.what(), t.where(), rows, t.interval());
+            log.info("Harvested '{}' @ '{}': {} postings", t.what(), t.where(), rows);
+        }
+    }
+
+    /** @return number of postings fetched across all harvested pages */
+    private int harvest(Target t) {
+        int rows = 0;
+        for (int page = 0; page < t.maxPages(); page++) {
+            var q = JobSearchQuery.builder()
+                    .title(t.what())
+                    .location(t.where())
+                    .page(page)
+                    .size(props.getPageSize())
+                    .build();
+            int fetched = aggregation.fetchAndStore(q).postings().size();
+            if (fetched == 0) break;
+            rows += fetched;
+        }
+        return rows;
+    }
+
+    private List<Target> targets() {
+        Map<String, Target> out = new LinkedHashMap<>();
+        for (var q : props.getQueries()) {
+            add(out, q.getWhat(), q.getWhere(),
+                    q.getInterval() == null ? props.getInterval() : q.getInterval(),
+                    q.getMaxPages() == null ? props.getMaxPages() : q.getMaxPages());
+        }
+        for (String kw : props.getRoleKeywords()) {
+            add(out, kw, props.getDefaultLocation(), props.getInterval(), props.getMaxPages());
+        }
+        for (Object[] row : savedSearches.popularQueries(PageRequest.of(0, props.getSavedSearchLimit()))) {
+            add(out, (String) row[0], (String) row[1], props.getInterval(), props.getMaxPages());
+        }
+        return List.copyOf(out.values());
+    }
+
+    private static void add(Map<String, Target> out, String what, String where, Duration interval, int maxPages) {
+        if (what == null || what.isBlank()) return;
+        String w = where == null ? "" : where.trim();
+        out.putIfAbsent(QueryKey.of("target", what, w), new Target(what.trim(), w, interval, maxPages));
+    }
+}
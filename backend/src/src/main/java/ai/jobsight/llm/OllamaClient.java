@@ -0,0 +1,176 @@
+package ai.jobsight.llm;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * /api/generate on top of the llmTemplate RestTemplate.
+ * Every call carries keep_alive, so the model stays resident between requests, and sends the static
+ * instructions as the separate {@code system} field ahead of the short per-request prompt: the rendered
+ * prompt then always starts with the same tokens, and the Ollama runner reuses their evaluated KV cache
+ * instead of re-evaluating them. Timings from the final response are returned and logged per call,
+ * and recorded as jobsight.ollama.* metrics (wall-clock call time, load / prompt-eval / eval time, token counts).
+ */
+@Slf4j
+@Component
+public class OllamaClient {
+
+    /** Durations in ms (Ollama reports ns); token counts as reported. */
+    public record Timings(long loadMs, int promptTokens, long promptEvalMs, int evalTokens, long evalMs, long totalMs) {}
+
+    public record Generation(String text, Timings timings) {}
+
+    private final RestTemplate http;
+    private final ObjectMapper mapper;
+    private final MeterRegistry meters;
+    private final String model;
+    private final Object keepAlive;   // Long for bare seconds (-1 = forever), else a duration string like "30m"
+
+    public OllamaClient(
+            @Qualifier("llmTemplate") RestTemplate http,
+            ObjectMapper mapper,
+            MeterRegistry meters,
+            @Value("${ollama.model:llama3.2:3b}") String model,
+            @Value("${ollama.keep-alive:30m}") String keepAlive
+    ) {
+        this.http = http;
+        this.mapper = mapper;
+        this.meters = meters;
+        this.model = model;
+        // Ollama parses a JSON string as a Go duration ("-1" fails); bare numbers must go out as numbers
+        String k = keepAlive.trim();
+        this.keepAlive = k.matches("-?\\d+") ? (Object) Long.parseLong(k) : k;
+    }
+
+    public String model() {
+        return model;
+    }
+
+    public Generation generate(String system, String prompt, Map<String, Object> options) {
+        Timer.Sample sample = Timer.start(meters);
+        String outcome = "error";
+        try {
+            JsonNode resp = http.postForObject("/api/generate", payload(system, prompt, options, false), JsonNode.class);
+            outcome = "success";
+            if (resp == null) return new Generation("", null);
+            return done(resp.path("response").asText(""), resp);
+        } finally {
+            sample.stop(meters.timer("jobsight.ollama.call", "mode", "generate", "model", model, "outcome", outcome));
+        }
+    }
+
+    /**
+     * Streams the NDJSON response, handing each non-empty chunk to {@code onChunk}.
+     * When {@code cancelled} turns true the response is closed, which aborts generation upstream,
+     * and a {@link CancellationException} is thrown.
+     */
+    public Generation stream(String system, String prompt, Map<String, Object> options,
+                             Consumer<String> onChunk, BooleanSupplier cancelled) {
+        Map<String, Object> payload = payload(system, prompt, options, true);
+        Timer.Sample sample = Timer.start(meters);
+        String outcome = "error";
+        try {
+            Generation g = relay(payload, onChunk, cancelled);
+            outcome = "success";
+            return g;
+        } catch (CancellationException e) {
+            outcome = "cancelled";
+            throw e;
+        } finally {
+            sample.stop(meters.timer("jobsight.ollama.call", "mode", "stream", "model", model, "outcome", outcome));
+        }
+    }
+
+    private Generation relay(Map<String, Object> payload, Consumer<String> onChunk, BooleanSupplier cancelled) {
+        return http.execute("/api/generate", HttpMethod.POST,
+                request -> {
+                    request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    mapper.writeValue(request.getBody(), payload);
+                },
+                response -> {
+                    StringBuilder sb = new StringBuilder();
+                    JsonNode last = null;
+                    try (var reader = new BufferedReader(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+                        for (String line; !cancelled.getAsBoolean() && (line = reader.readLine()) != null; ) {
+                            if (line.isBlank()) continue;
+                            JsonNode n = mapper.readTree(line);
+                            if (n.hasNonNull("error")) throw new IOException("Ollama: " + n.get("error").asText());
+                            String chunk = n.path("response").asText("");
+                            if (!chunk.isEmpty()) {
+                                sb.append(chunk);
+                                onChunk.accept(chunk);
+                            }
+                            if (n.path("done").asBoolean(false)) {
+                                last = n;
+                                break;
+                            }
+                        }
+                    }
+                    if (cancelled.getAsBoolean()) throw new CancellationException("Client disconnected");
+                    return done(sb.toString(), last);
+                });
+    }
+
+    /**
+     * Loads the model (kept resident by keep_alive) and evaluates {@code system} once,
+     * so the first user request starts from a warm prefix.
+     */
+    public Timings warmUp(String system) {
+        return generate(system, "Reply with OK.", Map.of("num_predict", 1)).timings();
+    }
+
+    private Map<String, Object> payload(String system, String prompt, Map<String, Object> options, boolean stream) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("model", model);
+        payload.put("system", system);
+        payload.put("prompt", prompt);
+        payload.put("stream", stream);
+        payload.put("keep_alive", keepAlive);
+        payload.put("options", options);
+        return payload;
+    }
+
+    private Generation done(String text, JsonNode last) {
+        Timings t = last == null ? null : new Timings(
+                ms(last, "load_duration"),
+                last.path("prompt_eval_count").asInt(0),
+                ms(last, "prompt_eval_duration"),
+                last.path("eval_count").asInt(0),
+                ms(last, "eval_duration"),
+                ms(last, "total_duration"));
+        if (t != null) {
+            log.info("Ollama {}: load {} ms, prompt {} tokens in {} ms, generated {} tokens in {} ms, total {} ms",
+                    model, t.loadMs(), t.promptTokens(), t.promptEvalMs(), t.evalTokens(), t.evalMs(), t.totalMs());
+            meters.timer("jobsight.ollama.phase", "model", model, "phase", "load").record(t.loadMs(), TimeUnit.MILLISECONDS);
+            meters.timer("jobsight.ollama.phase", "model", model, "phase", "prompt-eval").record(t.promptEvalMs(), TimeUnit.MILLISECONDS);
+            meters.timer("jobsight.ollama.phase", "model", model, "phase", "eval").record(t.evalMs(), TimeUnit.MILLISECONDS);
+            meters.summary("jobsight.ollama.tokens", "model", model, "kind", "prompt").record(t.promptTokens());
+            meters.summary("jobsight.ollama.tokens", "model", model, "kind", "generated").record(t.evalTokens());
+        }
+        return new Generation(text, t);
+    }
+
+    private static long ms(JsonNode n, String field) {
+        return n.path(field).asLong(0) / 1_000_000;
+    }
+}
@@ -20,4 +20,10 @@ public class JobPostingMapper {
                 .provider(j.getProvider().name())
                 .build();
     }
+
+    public static JobPostingDTO toDetailDto(JobPosting j) {
+        var dto = toDto(j);
+        dto.setDescription(j.getDescription());
+        return dto;
+    }
 }
@@ -0,0 +1,125 @@
+package ai.jobsight.providers;
+
+import ai.jobsight.domain.JobPosting;
+import ai.jobsight.domain.query.JobSearchQuery;
+import ai.jobsight.providers.cache.QueryKey;
+import ai.jobsight.providers.cache.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Runs a query against every enabled provider.
+ * In parallel mode each provider gets its own virtual thread and the whole search shares one deadline;
+ * providers that fail or miss the deadline are reported instead of failing the search.
+ */
+@Slf4j
+@Component
+public class ProviderFanOut {
+
+    public enum Outcome { TIMEOUT, ERROR }
+
+    /** Postings from providers that answered in time, plus the ones that did not. */
+    public record Result(List<JobPosting> postings, Map<String, Outcome> unavailable) {
+        public static final Result EMPTY = new Result(List.of(), Map.of());
+    }
+
+    private final ProviderRegistry registry;
+    private final SingleFlight singleFlight;
+    private final MeterRegistry meters;
+    private final boolean parallel;
+    private final Duration deadline;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ProviderFanOut(
+            ProviderRegistry registry,
+            SingleFlight singleFlight,
+            MeterRegistry meters,
+            @Value("${providers.fanout.parallel:true}") boolean parallel,
+            @Value("${providers.fanout.deadline:8s}") Duration deadline
+    ) {
+        this.registry = registry;
+        this.singleFlight = singleFlight;
+        this.meters = meters;
+        this.parallel = parallel;
+        this.deadline = deadline;
+    }
+
+    public Result search(JobSearchQuery q) {
+        return parallel ? searchParallel(q) : searchSequential(q);
+    }
+
+    private Result searchSequential(JobSearchQuery q) {
+        List<JobPosting> collected = new ArrayList<>();
+        Map<String, Outcome> unavailable = new LinkedHashMap<>();
+        for (JobProvider p : registry.all()) {
+            try {
+                collected.addAll(searchShared(p, q));
+            } catch (Exception e) {
+                // resilience annotations already retry/CB
+                log.warn("Provider {} failed: {}", p.name(), e.toString());
+                unavailable(unavailable, p.name(), Outcome.ERROR);
+            }
+        }
+        return new Result(collected, unavailable);
+    }
+
+    private Result searchParallel(JobSearchQuery q) {
+        Map<JobProvider, Future<List<JobPosting>>> running = new LinkedHashMap<>();
+        for (JobProvider p : registry.all()) {
+            running.put(p, executor.submit(() -> searchShared(p, q)));
+        }
+
+        long until = System.nanoTime() + deadline.toNanos();
+        List<JobPosting> collected = new ArrayList<>();
+        Map<String, Outcome> unavailable = new LinkedHashMap<>();
+
+        for (var e : running.entrySet()) {
+            String name = e.getKey().name();
+            Future<List<JobPosting>> f = e.getValue();
+            try {
+                collected.addAll(f.get(Math.max(0, until - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException ex) {
+                f.cancel(true);
+                log.warn("Provider {} missed the {} ms deadline", name, deadline.toMillis());
+                unavailable(unavailable, name, Outcome.TIMEOUT);
+            } catch (ExecutionException ex) {
+                log.warn("Provider {} failed: {}", name, ex.getCause().toString());
+                unavailable(unavailable, name, Outcome.ERROR);
+            } catch (InterruptedException ex) {
+                // keep the flag so the remaining get() calls fail fast too
+                Thread.currentThread().interrupt();
+                f.cancel(true);
+                unavailable(unavailable, name, Outcome.ERROR);
+            }
+        }
+        return new Result(collected, unavailable);
+    }
+
+    /** Identical concurrent searches share one provider call, retries included. */
+    private List<JobPosting> searchShared(JobProvider p, JobSearchQuery q) throws Exception {
+        return singleFlight.execute(key(p, q), () -> p.search(q));
+    }
+
+    private void unavailable(Map<String, Outcome> unavailable, String provider, Outcome outcome) {
+        unavailable.put(provider, outcome);
+        meters.counter("jobsight.provider.unavailable", "provider", provider,
+                "reason", outcome.name().toLowerCase(Locale.ROOT)).increment();
+    }
+
+    private static String key(JobProvider p, JobSearchQuery q) {
+        String stack = q.techStack() == null ? "" : String.join(",", new TreeSet<>(q.techStack()));
+        return QueryKey.of("search:" + p.name(), q.title(), q.location(), stack, q.remoteOnly(), q.page(), q.size());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
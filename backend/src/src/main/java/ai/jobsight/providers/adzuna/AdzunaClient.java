@@ -1,41 +1,47 @@
 package ai.jobsight.providers.adzuna;
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
-import org.springframework.web.util.UriComponentsBuilder;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 @Component
-@RequiredArgsConstructor
 public class AdzunaClient {
 
-    @Value("${providers.adzuna.baseUrl}")
-    private String baseUrl;
-
-    @Value("${providers.adzuna.country}")
-    private String country;
-
-    @Value("${providers.adzuna.appId}")
-    private String appId;
+    private final RestClient rest;
+    private final AdzunaProperties props;
 
-    @Value("${providers.adzuna.appKey}")
-    private String appKey;
+    public AdzunaClient(@Qualifier("adzunaRestClient") RestClient rest, AdzunaProperties props) {
+        this.rest = rest;
+        this.props = props;
+    }
 
-    private final RestClient rest = RestClient.create();
+    /** Consumes the response body as a stream; it is closed once the reader returns. */
+    @FunctionalInterface
+    public interface BodyReader<T> {
+        T read(InputStream body) throws IOException;
+    }
 
-    public String search(String what, String where, int page, int size) {
+    public <T> T search(String what, String where, int page, int size, BodyReader<T> reader) {
         // NOTE: Adzuna's public API docs: /{country}/search/{page}?app_id=...&app_key=...&what=...&where=...
-        String url = UriComponentsBuilder
-                .fromHttpUrl(baseUrl + "/" + country + "/search/" + (page + 1))
-                .queryParam("app_id", appId)
-                .queryParam("app_key", appKey)
-                .queryParam("what", what)
-                .queryParam("where", where)
-                .queryParam("results_per_page", size)
-                .build(true)
-                .toUriString();
-
-        return rest.get().uri(url).retrieve().body(String.class);
+        return rest.get()
+                .uri(u -> u.pathSegment(props.getCountry(), "search", String.valueOf(page + 1))
+                        .queryParam("app_id", props.getAppId())
+                        .queryParam("app_key", props.getAppKey())
+                        .queryParam("what", what)
+                        .queryParam("where", where)
+                        .queryParam("results_per_page", size)
+                        .build())
+                .exchange((req, res) -> {
+                    if (res.getStatusCode().isError()) {
+                        throw new RestClientException("Adzuna API " + res.getStatusCode());
+                    }
+                    try (InputStream body = res.getBody()) {
+                        return reader.read(body);
+                    }
+                });
     }
 }
@@ -1,13 +1,98 @@
 package ai.jobsight.providers.adzuna;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+/**
+ * The single Adzuna transport: one pooled Apache HttpClient (keep-alive, connection reuse, gzip/deflate
+ * negotiated and decoded by the client) behind the adzunaRestClient bean that every Adzuna call uses,
+ * so repeat searches reuse a warm TLS connection instead of handshaking again.
+ */
 @Configuration
 @EnableConfigurationProperties(AdzunaProperties.class)
 public class AdzunaConfig {
 
+    @Bean
+    public PoolingHttpClientConnectionManager adzunaConnectionManager(AdzunaProperties props) {
+        AdzunaProperties.Http http = props.getHttp();
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(http.getMaxConnections())
+                .setMaxConnPerRoute(http.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(http.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(http.getReadTimeout()))
+                        .setTimeToLive(TimeValue.of(http.getConnectionTtl()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .setDefaultSocketConfig(SocketConfig.custom()
+                        .setSoTimeout(Timeout.of(http.getReadTimeout()))
+                        .setSoKeepAlive(true)
+                        .build())
+                .build();
+    }
 
+    @Bean
+    public CloseableHttpClient adzunaHttpClient(
+            @Qualifier("adzunaConnectionManager") PoolingHttpClientConnectionManager pool,
+            AdzunaProperties props
+    ) {
+        AdzunaProperties.Http http = props.getHttp();
+        return HttpClients.custom()
+                .setConnectionManager(pool)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(http.getPoolTimeout()))
+                        .setResponseTimeout(Timeout.of(http.getReadTimeout()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(http.getIdleEvict()))
+                .build();
+    }
+
+    /** Same pool, but bodies are left content-encoded so {@link AdzunaPassthrough} can relay them as they are. */
+    @Bean
+    public CloseableHttpClient adzunaStreamingHttpClient(
+            @Qualifier("adzunaConnectionManager") PoolingHttpClientConnectionManager pool,
+            AdzunaProperties props
+    ) {
+        AdzunaProperties.Http http = props.getHttp();
+        return HttpClients.custom()
+                .setConnectionManager(pool)
+                .setConnectionManagerShared(true) // owned (and closed) by adzunaHttpClient
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(http.getPoolTimeout()))
+                        .setResponseTimeout(Timeout.of(http.getReadTimeout()))
+                        .build())
+                .disableContentCompression()
+                .build();
+    }
+
+    @Bean // used by AdzunaClient, AdzunaService and AdzunaFacade
+    public RestClient adzunaRestClient(@Qualifier("adzunaHttpClient") CloseableHttpClient client, AdzunaProperties props) {
+        return RestClient.builder()
+                .baseUrl(props.getBaseUrl())
+                .requestFactory(new HttpComponentsClientHttpRequestFactory(client))
+                .build();
+    }
+
+    @Bean // used by AdzunaPassthrough
+    public RestClient adzunaStreamingRestClient(@Qualifier("adzunaStreamingHttpClient") CloseableHttpClient client,
+                                                AdzunaProperties props) {
+        return RestClient.builder()
+                .baseUrl(props.getBaseUrl())
+                .requestFactory(new HttpComponentsClientHttpRequestFactory(client))
+                .build();
+    }
 }
@@ -0,0 +1,307 @@
+package ai.jobsight.providers.adzuna;
+
+import ai.jobsight.providers.cache.ProviderResponseCache;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriBuilder;
+
+import java.io.*;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Streaming variant of {@link AdzunaService#search}: the upstream body is relayed to the servlet output
+ * as it arrives, without decoding or buffering it, with the upstream status, Content-Type and
+ * Content-Encoding (gzip is passed through when the client accepts it). The response is opened on the
+ * request thread so the status is known before the body streams.
+ * Cache hits are served from {@link ProviderResponseCache}; on a miss a caching tap collects the
+ * (bounded) body and stores it decoded under the same key the buffered path uses. Other taps come from
+ * {@link StreamTap.Factory} beans.
+ * Concurrent misses of one key stream upstream once: followers wait (up to coalesce-wait) for the leader's
+ * stream to end and are then served through {@link ProviderResponseCache#fetch}, i.e. from the entry the leader
+ * cached, or by one coalesced buffered load if it could not be cached. The circuit breaker records one outcome
+ * per upstream call, when its body has been read (or failed); a client that goes away mid-body records none.
+ */
+@Slf4j
+@Component
+public class AdzunaPassthrough {
+
+    private static final int BUFFER = 16 * 1024;
+
+    private final RestClient http;
+    private final AdzunaService adzuna;
+    private final ProviderResponseCache cache;
+    private final CircuitBreakerRegistry breakers;
+    private final List<StreamTap.Factory> taps;
+    private final boolean enabled;
+    private final long cacheMaxBytes;
+    private final Duration coalesceWait;
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> streaming = new ConcurrentHashMap<>();
+
+    public AdzunaPassthrough(
+            @Qualifier("adzunaStreamingRestClient") RestClient http,
+            AdzunaService adzuna,
+            ProviderResponseCache cache,
+            CircuitBreakerRegistry breakers,
+            ObjectProvider<StreamTap.Factory> taps,
+            @Value("${providers.adzuna.passthrough.enabled:true}") boolean enabled,
+            @Value("${providers.adzuna.passthrough.cache-max-size:2MB}") DataSize cacheMaxSize,
+            @Value("${providers.adzuna.passthrough.coalesce-wait:10s}") Duration coalesceWait
+    ) {
+        this.http = http;
+        this.adzuna = adzuna;
+        this.cache = cache;
+        this.breakers = breakers;
+        this.taps = taps.orderedStream().toList();
+        this.enabled = enabled;
+        this.cacheMaxBytes = cacheMaxSize.toBytes();
+        this.coalesceWait = coalesceWait;
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /** Same parameters as {@link AdzunaService#search}, plus the client's Accept-Encoding. */
+    public ResponseEntity<StreamingResponseBody> search(
+            String what, String whatExclude, String where, Integer salaryMin, boolean fullTime, boolean permanent,
+            String sortBy, int pageZeroBased, int size, String acceptEncoding
+    ) {
+        int adzunaPage = Math.max(1, pageZeroBased + 1);
+        String key = AdzunaService.key(what, whatExclude, where, salaryMin, fullTime, permanent, sortBy, adzunaPage, size);
+
+        Supplier<String> loader = () ->
+                adzuna.fetchRaw(what, whatExclude, where, salaryMin, fullTime, permanent, sortBy, adzunaPage, size);
+        var cached = cache.<String>peek("adzuna", key, loader::get);
+        if (cached.isPresent()) return json(cached.get());
+
+        CompletableFuture<Void> mine = new CompletableFuture<>();
+        CompletableFuture<Void> leader = streaming.putIfAbsent(key, mine);
+        if (leader != null) return follow(key, leader, loader);
+
+        try {
+            return stream(key, acceptEncoding, mine, u ->
+                    adzuna.uri(u, what, whatExclude, where, salaryMin, fullTime, permanent, sortBy, adzunaPage, size));
+        } catch (RuntimeException e) {
+            land(key, mine);
+            throw e;
+        }
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(String key, String acceptEncoding, CompletableFuture<Void> mine,
+                                                         Function<UriBuilder, URI> uri) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        BreakerCall call = new BreakerCall(breakers.circuitBreaker("adzuna"));
+        ClientHttpResponse res;
+        try {
+            res = http.get()
+                    .uri(u -> {
+                        URI built = uri.apply(u);
+                        log.debug("Adzuna GET (stream) {}", AdzunaProperties.redact(built.toString()));
+                        return built;
+                    })
+                    .header(HttpHeaders.ACCEPT_ENCODING, gzip ? "gzip" : "identity")
+                    .exchange((req, r) -> r, false);
+        } catch (RuntimeException e) {
+            call.error(e);
+            throw new RuntimeException("Adzuna API unavailable: " + e.getMessage(), e);
+        }
+
+        int status;
+        HttpHeaders upstream;
+        try {
+            status = res.getStatusCode().value();
+            upstream = res.getHeaders();
+        } catch (IOException e) {
+            res.close();
+            call.error(e);
+            throw new UncheckedIOException(e);
+        }
+        if (status >= 500) call.error(new IOException("Adzuna API " + status));
+
+        List<StreamTap> active = new ArrayList<>(taps.size() + 1);
+        if (status == 200) active.add(new CachingTap(key, cacheMaxBytes));
+        for (StreamTap.Factory f : taps) active.add(f.open(key));
+        for (StreamTap t : List.copyOf(active)) call(active, t, () -> t.onStart(status, upstream));
+
+        HttpHeaders headers = new HttpHeaders();
+        if (upstream.getContentType() != null) headers.setContentType(upstream.getContentType());
+        String encoding = upstream.getFirst(HttpHeaders.CONTENT_ENCODING);
+        if (encoding != null) headers.set(HttpHeaders.CONTENT_ENCODING, encoding);
+        if (upstream.getContentLength() >= 0) headers.setContentLength(upstream.getContentLength());
+        headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        StreamingResponseBody body = out -> {
+            try {
+                relay(res, out, active, call);
+            } finally {
+                land(key, mine);
+            }
+        };
+        return ResponseEntity.status(status).headers(headers).body(body);
+    }
+
+    /** Waits for the leading stream of {@code key}, then serves the body it cached (or loads it once, coalesced). */
+    private ResponseEntity<StreamingResponseBody> follow(String key, CompletableFuture<Void> leader,
+                                                         Supplier<String> loader) {
+        try {
+            leader.get(coalesceWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            streaming.remove(key, leader); // a stuck or abandoned leader no longer holds the key
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // never completed exceptionally
+        }
+        return json(cache.fetch("adzuna", key, loader));
+    }
+
+    /** Leaves the map before completing, so a new miss cannot join a stream that has already ended. */
+    private void land(String key, CompletableFuture<Void> mine) {
+        streaming.remove(key, mine);
+        mine.complete(null);
+    }
+
+    private static ResponseEntity<StreamingResponseBody> json(String cached) {
+        byte[] body = cached.getBytes(StandardCharsets.UTF_8);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(body.length)
+                .body(out -> out.write(body));
+    }
+
+    static void relay(ClientHttpResponse res, OutputStream out, List<StreamTap> taps, BreakerCall call) throws IOException {
+        long total = 0;
+        boolean reading = false;
+        try (res; InputStream in = res.getBody()) {
+            byte[] buf = new byte[BUFFER];
+            while (true) {
+                reading = true;
+                int n = in.read(buf);
+                reading = false;
+                if (n < 0) break;
+                if (n == 0) continue;
+                out.write(buf, 0, n);
+                total += n;
+                int len = n;
+                for (StreamTap t : List.copyOf(taps)) call(taps, t, () -> t.onChunk(buf, 0, len));
+            }
+            out.flush();
+        } catch (IOException | RuntimeException e) {
+            if (reading) call.error(e);   // upstream failed mid-body
+            else call.release();          // the client went away; says nothing about upstream
+            for (StreamTap t : List.copyOf(taps)) call(taps, t, () -> t.onError(e));
+            throw e;
+        }
+        call.success();
+        long bytes = total;
+        for (StreamTap t : List.copyOf(taps)) call(taps, t, () -> t.onComplete(bytes));
+    }
+
+    /** One circuit breaker outcome per upstream call; the first one recorded wins. */
+    static final class BreakerCall {
+        private final CircuitBreaker cb;
+        private final long start = System.nanoTime();
+        private boolean done;
+
+        BreakerCall(CircuitBreaker cb) {
+            cb.acquirePermission();
+            this.cb = cb;
+        }
+
+        void success() {
+            if (finish()) cb.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        void error(Throwable t) {
+            if (finish()) cb.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, t);
+        }
+
+        void release() {
+            if (finish()) cb.releasePermission();
+        }
+
+        private boolean finish() {
+            if (done) return false;
+            done = true;
+            return true;
+        }
+    }
+
+    /** A failing tap is removed; it never breaks the relay. */
+    private static void call(List<StreamTap> taps, StreamTap tap, Runnable r) {
+        try {
+            r.run();
+        } catch (RuntimeException e) {
+            log.warn("Stream tap {} failed, detaching: {}", tap.getClass().getSimpleName(), e.toString());
+            taps.remove(tap);
+        }
+    }
+
+    /** Collects the encoded body (up to a limit) and stores it decoded in the response cache once complete. */
+    private final class CachingTap implements StreamTap {
+        private final String key;
+        private final long limit;
+        private ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        private String encoding;
+
+        CachingTap(String key, long limit) {
+            this.key = key;
+            this.limit = limit;
+        }
+
+        @Override
+        public void onStart(int status, HttpHeaders headers) {
+            encoding = headers.getFirst(HttpHeaders.CONTENT_ENCODING);
+            if (headers.getContentLength() > limit) buf = null;
+        }
+
+        @Override
+        public void onChunk(byte[] b, int off, int len) {
+            if (buf == null) return;
+            if (buf.size() + len > limit) {
+                buf = null; // too large to cache, keep relaying
+                return;
+            }
+            buf.write(b, off, len);
+        }
+
+        @Override
+        public void onComplete(long bytes) {
+            if (buf == null) return;
+            try (InputStream in = decode(new ByteArrayInputStream(buf.toByteArray()))) {
+                cache.put(key, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                log.debug("Not caching Adzuna body for {}: {}", key, e.toString());
+            }
+        }
+
+        private InputStream decode(InputStream in) throws IOException {
+            if (encoding == null || encoding.equalsIgnoreCase("identity")) return in;
+            if (encoding.equalsIgnoreCase("gzip")) return new GZIPInputStream(in);
+            if (encoding.equalsIgnoreCase("deflate")) return new InflaterInputStream(in);
+            throw new IOException("Unsupported content encoding " + encoding);
+        }
+    }
+}
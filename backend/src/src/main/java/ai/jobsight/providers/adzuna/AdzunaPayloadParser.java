@@ -0,0 +1,128 @@
+package ai.jobsight.providers.adzuna;
+
+import ai.jobsight.domain.JobPosting;
+import ai.jobsight.domain.SalaryRange;
+import ai.jobsight.domain.enums.JobSource;
+import ai.jobsight.text.TextClassifier;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adapter: Adzuna search payload -> our JobPosting domain.
+ * Single pass over the token stream straight from the HTTP body; no tree, no buffered String,
+ * exactly one JobPosting per result.
+ */
+@Component
+public class AdzunaPayloadParser {
+
+    private final JsonFactory factory;
+    private final TextClassifier classifier;
+
+    public AdzunaPayloadParser(ObjectMapper mapper, TextClassifier classifier) {
+        this.factory = mapper.getFactory(); // shared, configured mapper bean
+        this.classifier = classifier;
+    }
+
+    public List<JobPosting> parse(InputStream body) throws IOException {
+        try (JsonParser p = factory.createParser(body)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) return List.of();
+
+            List<JobPosting> out = new ArrayList<>();
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken t = p.nextToken();
+                if ("results".equals(field) && t == JsonToken.START_ARRAY) {
+                    while (p.nextToken() == JsonToken.START_OBJECT) out.add(readJob(p));
+                } else {
+                    p.skipChildren();
+                }
+            }
+            return out;
+        }
+    }
+
+    private JobPosting readJob(JsonParser p) throws IOException {
+        String id = null, title = null, description = null, company = null, location = null;
+        String currency = null, created = null, url = null;
+        Integer salaryMin = null, salaryMax = null;
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken t = p.nextToken();
+            switch (field) {
+                case "id" -> id = scalar(p, t);
+                case "title" -> title = scalar(p, t);
+                case "description" -> description = scalar(p, t);
+                case "company" -> company = displayName(p, t);
+                case "location" -> location = displayName(p, t);
+                case "salary_min" -> salaryMin = number(p, t);
+                case "salary_max" -> salaryMax = number(p, t);
+                case "salary_currency" -> currency = scalar(p, t);
+                case "created" -> created = scalar(p, t);
+                case "redirect_url" -> url = scalar(p, t);
+                default -> p.skipChildren();
+            }
+        }
+
+        String safeTitle = title == null ? "" : title;
+        TextClassifier.Classification tags = classifier.classify(safeTitle, description);
+        return JobPosting.builder()
+                .provider(JobSource.ADZUNA)
+                .providerId(id == null ? "" : id)
+                .title(safeTitle)
+                .company(company == null ? "" : company)
+                .location(location == null ? "" : location)
+                .workType(tags.workType())
+                .seniority(tags.seniority())
+                .skills(tags.skills())
+                .salary(SalaryRange.builder().min(salaryMin).max(salaryMax).build())
+                .currency(currency)
+                .postedAt(parseDate(created))
+                .url(url)
+                .description(description)
+                .build();
+    }
+
+    /** Text of a scalar value; objects/arrays are skipped and read as null. */
+    private static String scalar(JsonParser p, JsonToken t) throws IOException {
+        if (t.isScalarValue() && t != JsonToken.VALUE_NULL) return p.getValueAsString();
+        p.skipChildren();
+        return null;
+    }
+
+    private static Integer number(JsonParser p, JsonToken t) throws IOException {
+        if (t.isNumeric()) return p.getValueAsInt();
+        p.skipChildren();
+        return null;
+    }
+
+    /** Reads {"display_name": "..."} objects (company, location). */
+    private static String displayName(JsonParser p, JsonToken t) throws IOException {
+        if (t != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return null;
+        }
+        String name = null;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken v = p.nextToken();
+            if ("display_name".equals(field)) name = scalar(p, v);
+            else p.skipChildren();
+        }
+        return name;
+    }
+
+    private static Instant parseDate(String s) {
+        try { return s == null ? null : Instant.parse(s); }
+        catch (Exception e) { return null; }
+    }
+}
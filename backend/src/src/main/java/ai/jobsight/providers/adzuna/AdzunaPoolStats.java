@@ -0,0 +1,91 @@
+package ai.jobsight.providers.adzuna;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Leased / available / pending connections of the Adzuna pool, in total and per route (scheme + host + port).
+ * Totals are live gauges; per-route gauges (jobsight.adzuna.pool.route{route, state}) are refreshed on a schedule
+ * because routes only appear once they have been used.
+ */
+@Slf4j
+@Component
+public class AdzunaPoolStats implements MeterBinder {
+
+    public record RouteStats(String route, int leased, int available, int pending, int max) {}
+
+    private final PoolingHttpClientConnectionManager pool;
+    private volatile MultiGauge perRoute;
+
+    public AdzunaPoolStats(@Qualifier("adzunaConnectionManager") PoolingHttpClientConnectionManager pool) {
+        this.pool = pool;
+    }
+
+    public RouteStats total() {
+        return of("total", pool.getTotalStats());
+    }
+
+    public List<RouteStats> perRoute() {
+        return pool.getRoutes().stream()
+                .map(r -> of(route(r), pool.getStats(r)))
+                .toList();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        gauge(registry, "leased", RouteStats::leased);
+        gauge(registry, "available", RouteStats::available);
+        gauge(registry, "pending", RouteStats::pending);
+        gauge(registry, "max", RouteStats::max);
+        perRoute = MultiGauge.builder("jobsight.adzuna.pool.route").register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${providers.adzuna.http.stats-interval:30s}",
+            initialDelayString = "${providers.adzuna.http.stats-interval:30s}")
+    void refresh() {
+        List<RouteStats> routes = perRoute();
+        MultiGauge gauges = perRoute;
+        if (gauges != null) {
+            List<MultiGauge.Row<?>> rows = new ArrayList<>(routes.size() * 4);
+            for (RouteStats s : routes) {
+                rows.add(MultiGauge.Row.of(Tags.of("route", s.route(), "state", "leased"), s.leased()));
+                rows.add(MultiGauge.Row.of(Tags.of("route", s.route(), "state", "available"), s.available()));
+                rows.add(MultiGauge.Row.of(Tags.of("route", s.route(), "state", "pending"), s.pending()));
+                rows.add(MultiGauge.Row.of(Tags.of("route", s.route(), "state", "max"), s.max()));
+            }
+            gauges.register(rows, true);
+        }
+        if (log.isDebugEnabled()) {
+            for (RouteStats s : routes) {
+                log.debug("Adzuna pool {}: leased {}, available {}, pending {}, max {}",
+                        s.route(), s.leased(), s.available(), s.pending(), s.max());
+            }
+        }
+    }
+
+    private void gauge(MeterRegistry registry, String state, ToIntFunction<RouteStats> value) {
+        Gauge.builder("jobsight.adzuna.pool", this, p -> value.applyAsInt(p.total())).tag("state", state).register(registry);
+    }
+
+    private static String route(HttpRoute r) {
+        return r.getTargetHost().toURI();
+    }
+
+    private static RouteStats of(String route, PoolStats s) {
+        return new RouteStats(route, s.getLeased(), s.getAvailable(), s.getPending(), s.getMax());
+    }
+}
@@ -2,6 +2,8 @@ package ai.jobsight.providers.adzuna;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @ConfigurationProperties(prefix = "providers.adzuna")
 public class AdzunaProperties {
     private boolean enabled = true;
@@ -9,6 +11,7 @@ public class AdzunaProperties {
     private String country = "pl";
     private String appId;
     private String appKey;
+    private Http http = new Http();
 
     public boolean isEnabled() { return enabled; }
     public void setEnabled(boolean enabled) { this.enabled = enabled; }
@@ -20,4 +23,34 @@ public class AdzunaProperties {
     public void setAppId(String appId) { this.appId = appId; }
     public String getAppKey() { return appKey; }
     public void setAppKey(String appKey) { this.appKey = appKey; }
+    public Http getHttp() { return http; }
+    public void setHttp(Http http) { this.http = http; }
+
+    /** Shared connection pool used by every Adzuna call. */
+    public static class Http {
+        private Duration connectTimeout = Duration.ofSeconds(3);
+        private Duration readTimeout = Duration.ofSeconds(10);
+        private Duration poolTimeout = Duration.ofSeconds(2);   // wait for a free pooled connection
+        private int maxConnections = 20;                       // one host, so also the per-route limit
+        private Duration connectionTtl = Duration.ofMinutes(5);
+        private Duration idleEvict = Duration.ofSeconds(30);
+
+        public Duration getConnectTimeout() { return connectTimeout; }
+        public void setConnectTimeout(Duration connectTimeout) { this.connectTimeout = connectTimeout; }
+        public Duration getReadTimeout() { return readTimeout; }
+        public void setReadTimeout(Duration readTimeout) { this.readTimeout = readTimeout; }
+        public Duration getPoolTimeout() { return poolTimeout; }
+        public void setPoolTimeout(Duration poolTimeout) { this.poolTimeout = poolTimeout; }
+        public int getMaxConnections() { return maxConnections; }
+        public void setMaxConnections(int maxConnections) { this.maxConnections = maxConnections; }
+        public Duration getConnectionTtl() { return connectionTtl; }
+        public void setConnectionTtl(Duration connectionTtl) { this.connectionTtl = connectionTtl; }
+        public Duration getIdleEvict() { return idleEvict; }
+        public void setIdleEvict(Duration idleEvict) { this.idleEvict = idleEvict; }
+    }
+
+    /** {@code url} with the app_id / app_key values masked, for logs and error messages. */
+    public static String redact(String url) {
+        return url == null ? null : url.replaceAll("(app_(?:id|key)=)[^&]*", "$1****");
+    }
 }
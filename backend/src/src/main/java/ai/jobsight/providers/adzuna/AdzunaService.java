@@ -1,27 +1,33 @@
 package ai.jobsight.providers.adzuna;
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
+import ai.jobsight.providers.cache.ProviderResponseCache;
+import ai.jobsight.providers.cache.QueryKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpStatusCodeException;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.util.UriBuilder;
 
+import java.net.URI;
+
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class AdzunaService {
 
-    @Value("${ADZUNA_APP_ID}")
-    private String appId;
-
-    @Value("${ADZUNA_APP_KEY}")
-    private String appKey;
-
-    @Value("${ADZUNA_COUNTRY}")
-    private String country; // e.g. "pl", "gb", "us"…
+    private final RestClient http;
+    private final AdzunaProperties props;
+    private final ProviderResponseCache cache;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    public AdzunaService(
+            @Qualifier("adzunaRestClient") RestClient http,
+            AdzunaProperties props,
+            ProviderResponseCache cache
+    ) {
+        this.http = http;
+        this.props = props;
+        this.cache = cache;
+    }
 
     /**
      * @param what          search text (keywords)
@@ -47,32 +53,56 @@ public class AdzunaService {
     ) {
         // Adzuna is 1-based page path: /search/{page}
         int adzunaPage = Math.max(1, pageZeroBased + 1);
+        String key = key(what, whatExclude, where, salaryMin, fullTime, permanent, sortBy, adzunaPage, size);
 
-        UriComponentsBuilder uri = UriComponentsBuilder
-                .fromUriString("https://api.adzuna.com/v1/api/jobs/" + country + "/search/" + adzunaPage)
-                .queryParam("app_id", appId)
-                .queryParam("app_key", appKey)
-                .queryParam("results_per_page", size)
-                .queryParam("content-type", "application/json");
-
-        if (what != null && !what.isBlank()) uri.queryParam("what", what);
-        if (whatExclude != null && !whatExclude.isBlank()) uri.queryParam("what_exclude", whatExclude);
-        if (where != null && !where.isBlank()) uri.queryParam("where", where);
-        if (salaryMin != null) uri.queryParam("salary_min", salaryMin);
-        if (sortBy != null && !sortBy.isBlank()) uri.queryParam("sort_by", sortBy);
-        // Adzuna expects 1/0 for these flags
-        uri.queryParam("full_time", fullTime ? 1 : 0);
-        uri.queryParam("permanent", permanent ? 1 : 0);
-
-        String url = uri.toUriString();
-        System.out.println("Calling Adzuna: " + url);
+        return cache.fetch("adzuna", key,
+                () -> fetchRaw(what, whatExclude, where, salaryMin, fullTime, permanent, sortBy, adzunaPage, size));
+    }
 
+    /**
+     * The upstream call behind {@link #search}, uncached: also the refresh loader of the streaming path,
+     * which must reach Adzuna rather than read its own (stale) cache entry back.
+     */
+    String fetchRaw(String what, String whatExclude, String where, Integer salaryMin,
+                    boolean fullTime, boolean permanent, String sortBy, int adzunaPage, int size) {
         try {
-            return restTemplate.getForObject(url, String.class);
+            return http.get()
+                    .uri(u -> {
+                        URI uri = uri(u, what, whatExclude, where, salaryMin, fullTime, permanent, sortBy, adzunaPage, size);
+                        log.debug("Adzuna GET {}", AdzunaProperties.redact(uri.toString()));
+                        return uri;
+                    })
+                    .retrieve()
+                    .body(String.class);
         } catch (HttpStatusCodeException e) {
             throw new RuntimeException(
                     "Adzuna API " + e.getStatusCode() + ": " + e.getResponseBodyAsString(), e
             );
         }
     }
+
+    /** Cache key of a raw search; shared with {@link AdzunaPassthrough} so both paths hit the same entries. */
+    static String key(String what, String whatExclude, String where, Integer salaryMin,
+                      boolean fullTime, boolean permanent, String sortBy, int adzunaPage, int size) {
+        return QueryKey.of("raw", what, whatExclude, where, salaryMin, fullTime, permanent, sortBy, adzunaPage, size);
+    }
+
+    URI uri(UriBuilder u, String what, String whatExclude, String where, Integer salaryMin,
+                    boolean fullTime, boolean permanent, String sortBy, int adzunaPage, int size) {
+        u.pathSegment(props.getCountry(), "search", String.valueOf(adzunaPage))
+                .queryParam("app_id", props.getAppId())
+                .queryParam("app_key", props.getAppKey())
+                .queryParam("results_per_page", size)
+                .queryParam("content-type", "application/json");
+
+        if (what != null && !what.isBlank()) u.queryParam("what", what);
+        if (whatExclude != null && !whatExclude.isBlank()) u.queryParam("what_exclude", whatExclude);
+        if (where != null && !where.isBlank()) u.queryParam("where", where);
+        if (salaryMin != null) u.queryParam("salary_min", salaryMin);
+        if (sortBy != null && !sortBy.isBlank()) u.queryParam("sort_by", sortBy);
+        // Adzuna expects 1/0 for these flags
+        u.queryParam("full_time", fullTime ? 1 : 0);
+        u.queryParam("permanent", permanent ? 1 : 0);
+        return u.build();
+    }
 }
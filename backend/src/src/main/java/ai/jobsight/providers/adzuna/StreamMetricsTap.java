@@ -0,0 +1,42 @@
+package ai.jobsight.providers.adzuna;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+/** jobsight.adzuna.passthrough{status, outcome} timer and relayed-bytes summary for every streamed search. */
+@Component
+@RequiredArgsConstructor
+public class StreamMetricsTap implements StreamTap.Factory {
+
+    private final MeterRegistry meters;
+
+    @Override
+    public StreamTap open(String key) {
+        Timer.Sample sample = Timer.start(meters);
+        return new StreamTap() {
+            private String status = "unknown";
+
+            @Override
+            public void onStart(int status, HttpHeaders headers) {
+                this.status = String.valueOf(status);
+            }
+
+            @Override
+            public void onChunk(byte[] buf, int off, int len) {}
+
+            @Override
+            public void onComplete(long bytes) {
+                meters.summary("jobsight.adzuna.passthrough.bytes").record(bytes);
+                sample.stop(meters.timer("jobsight.adzuna.passthrough", "status", status, "outcome", "complete"));
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                sample.stop(meters.timer("jobsight.adzuna.passthrough", "status", status, "outcome", "aborted"));
+            }
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package ai.jobsight.providers.adzuna;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Observer of a proxied upstream body, fed the exact bytes written to the client (still content-encoded).
+ * Taps run on the streaming thread, so they must be cheap; one that throws is dropped for the rest of the stream.
+ */
+public interface StreamTap {
+
+    default void onStart(int status, HttpHeaders headers) {}
+
+    void onChunk(byte[] buf, int off, int len);
+
+    /** Upstream body fully relayed. */
+    default void onComplete(long bytes) {}
+
+    /** Relay aborted (upstream failure or client gone). */
+    default void onError(Throwable error) {}
+
+    /** Opens one tap per proxied request; beans of this type are attached to every passthrough. */
+    @FunctionalInterface
+    interface Factory {
+        StreamTap open(String key);
+    }
+}
@@ -0,0 +1,170 @@
+package ai.jobsight.providers.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded stale-while-revalidate cache in front of upstream job boards.
+ * Entries are fresh for {@code ttl} and then served stale (with a background refresh) until {@code stale-ttl}.
+ * Upstream loads are coalesced per key and run through the named Resilience4j circuit breaker;
+ * while it is open, stale entries are served and no refresh is attempted.
+ */
+@Slf4j
+@Component
+public class ProviderResponseCache {
+
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws Exception;
+    }
+
+    public record Stats(long hits, long staleHits, long misses, long loadFailures, long size) {}
+
+    private record Entry(Object value, long loadedAt) {}
+
+    private final Cache<String, Entry> entries;
+    private final CircuitBreakerRegistry breakers;
+    private final SingleFlight singleFlight;
+    private final long freshNanos;
+    private final ExecutorService refresher = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+
+    public ProviderResponseCache(
+            CircuitBreakerRegistry breakers,
+            SingleFlight singleFlight,
+            @Value("${providers.cache.ttl:2m}") Duration ttl,
+            @Value("${providers.cache.stale-ttl:30m}") Duration staleTtl,
+            @Value("${providers.cache.max-size:2000}") long maxSize
+    ) {
+        this.breakers = breakers;
+        this.singleFlight = singleFlight;
+        this.freshNanos = ttl.toNanos();
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(staleTtl)
+                .build();
+    }
+
+    /**
+     * @param breaker circuit breaker guarding the upstream (e.g. "adzuna")
+     * @param key     normalized key, see {@link QueryKey}
+     */
+    public <T> T get(String breaker, String key, Loader<T> loader) throws Exception {
+        CircuitBreaker cb = breakers.circuitBreaker(breaker);
+        Entry e = entries.getIfPresent(key);
+
+        if (e != null && System.nanoTime() - e.loadedAt() < freshNanos) {
+            hits.increment();
+            return cast(e);
+        }
+        if (e != null) {
+            staleHits.increment();
+            if (!isOpen(cb)) refreshInBackground(cb, key, loader);
+            return cast(e);
+        }
+
+        misses.increment();
+        return load(cb, key, loader);
+    }
+
+    /** Same as {@link #get} for loaders that only throw unchecked exceptions. */
+    public <T> T fetch(String breaker, String key, Supplier<T> loader) {
+        try {
+            return get(breaker, key, loader::get);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Cached value without loading on a miss: fresh, or stale with a background refresh through {@code loader}
+     * (same accounting as {@link #get}). For callers that serve a miss themselves and {@link #put} the result.
+     */
+    public <T> Optional<T> peek(String breaker, String key, Loader<T> loader) {
+        Entry e = entries.getIfPresent(key);
+        if (e == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        if (System.nanoTime() - e.loadedAt() < freshNanos) {
+            hits.increment();
+        } else {
+            staleHits.increment();
+            CircuitBreaker cb = breakers.circuitBreaker(breaker);
+            if (!isOpen(cb)) refreshInBackground(cb, key, loader);
+        }
+        return Optional.of(cast(e));
+    }
+
+    public void put(String key, Object value) {
+        if (value != null) entries.put(key, new Entry(value, System.nanoTime()));
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), staleHits.sum(), misses.sum(), loadFailures.sum(), entries.estimatedSize());
+    }
+
+    /** Concurrent misses and refreshes of one key share a single upstream call (and a single breaker outcome). */
+    private <T> T load(CircuitBreaker cb, String key, Loader<T> loader) throws Exception {
+        try {
+            return singleFlight.execute(key, () -> {
+                T value = cb.executeCallable(loader::load);
+                if (value != null) entries.put(key, new Entry(value, System.nanoTime()));
+                return value;
+            });
+        } catch (Exception ex) {
+            loadFailures.increment();
+            throw ex;
+        }
+    }
+
+    private <T> void refreshInBackground(CircuitBreaker cb, String key, Loader<T> loader) {
+        if (!refreshing.add(key)) return;
+        refresher.execute(() -> {
+            try {
+                load(cb, key, loader);
+            } catch (Exception ex) {
+                log.debug("Background refresh of {} failed: {}", key, ex.toString());
+            } finally {
+                refreshing.remove(key);
+            }
+        });
+    }
+
+    private static boolean isOpen(CircuitBreaker cb) {
+        var s = cb.getState();
+        return s == CircuitBreaker.State.OPEN || s == CircuitBreaker.State.FORCED_OPEN;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Entry e) {
+        return (T) e.value();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+}
@@ -0,0 +1,21 @@
+package ai.jobsight.providers.cache;
+
+import java.util.Locale;
+
+/** Normalized cache/coalescing key for provider queries: "java  Warsaw " and "Java warsaw" collapse together. */
+public final class QueryKey {
+    private QueryKey() {}
+
+    public static String of(String namespace, Object... parts) {
+        StringBuilder sb = new StringBuilder(namespace);
+        for (Object p : parts) {
+            sb.append('|');
+            if (p != null) sb.append(normalize(String.valueOf(p)));
+        }
+        return sb.toString();
+    }
+
+    private static String normalize(String s) {
+        return s.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,71 @@
+package ai.jobsight.providers.cache;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request coalescing: concurrent callers with the same key share one in-flight upstream call
+ * and receive its result or its failure.
+ * The shared call runs on its own virtual thread, so a caller giving up (deadline, interrupt)
+ * does not cancel it for the others.
+ */
+@Component
+public class SingleFlight {
+
+    public record Stats(long leaders, long coalesced, int inFlight) {}
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, ProviderResponseCache.Loader<T> loader) throws Exception {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> shared = inFlight.putIfAbsent(key, mine);
+
+        if (shared == null) {
+            leaders.increment();
+            shared = mine;
+            executor.execute(() -> {
+                // Leave the map before completing, so nobody can join a flight that has already landed
+                Object result;
+                try {
+                    result = loader.load();
+                } catch (Throwable t) {
+                    inFlight.remove(key, mine);
+                    mine.completeExceptionally(t);
+                    return;
+                }
+                inFlight.remove(key, mine);
+                mine.complete(result);
+            });
+        } else {
+            coalesced.increment();
+        }
+        return (T) await(shared);
+    }
+
+    public Stats stats() {
+        return new Stats(leaders.sum(), coalesced.sum(), inFlight.size());
+    }
+
+    private static Object await(CompletableFuture<Object> f) throws Exception {
+        try {
+            return f.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception ex) throw ex;
+            if (cause instanceof Error err) throw err;
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
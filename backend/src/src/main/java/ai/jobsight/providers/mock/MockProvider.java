@@ -6,16 +6,22 @@ import ai.jobsight.domain.enums.JobSource;
 import ai.jobsight.domain.enums.WorkType;
 import ai.jobsight.domain.query.JobSearchQuery;
 import ai.jobsight.providers.JobProvider;
+import ai.jobsight.text.TextClassifier;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 @Component
+@RequiredArgsConstructor
 public class MockProvider implements JobProvider {
 
+    private final TextClassifier classifier;
+
     @Value("${providers.mock.enabled:true}")
     private boolean enabled;
 
@@ -25,18 +31,24 @@ public class MockProvider implements JobProvider {
     @Override
     public List<JobPosting> search(JobSearchQuery q) {
         // Useful for local dev / demo when API keys are missing
+        String title = "Junior Java Developer";
+        String description = "Junior role in Java + Spring.";
+        TextClassifier.Classification tags = classifier.classify(title, description);
+        Set<String> skills = new HashSet<>(tags.skills());
+        skills.add("docker");
         return List.of(
                 JobPosting.builder()
                         .provider(JobSource.MOCK).providerId("1")
-                        .title("Junior Java Developer")
+                        .title(title)
                         .company("Acme")
                         .location(q.location() == null ? "Warsaw" : q.location())
                         .workType(WorkType.HYBRID)
-                        .skills(Set.of("java","spring","docker"))
+                        .seniority(tags.seniority())
+                        .skills(skills)
                         .salary(SalaryRange.builder().min(8000).max(12000).build())
                         .currency("PLN").postedAt(Instant.now())
                         .url("https://example.com/jobs/1")
-                        .description("Junior role in Java + Spring.")
+                        .description(description)
                         .build()
         );
     }
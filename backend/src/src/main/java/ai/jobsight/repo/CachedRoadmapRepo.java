@@ -0,0 +1,26 @@
+package ai.jobsight.repo;
+
+import ai.jobsight.save.CachedRoadmap;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Repository
+public interface CachedRoadmapRepo extends JpaRepository<CachedRoadmap, String> {
+
+    @Transactional
+    @Modifying
+    @Query("delete from CachedRoadmap c where c.createdAt < :cutoff")
+    int deleteOlderThan(Instant cutoff);
+
+    /** Keeps the newest {@code keep} rows. */
+    @Transactional
+    @Modifying
+    @Query(value = "delete from cached_roadmap where request_key in " +
+            "(select request_key from cached_roadmap order by created_at desc offset :keep)", nativeQuery = true)
+    int trimTo(int keep);
+}
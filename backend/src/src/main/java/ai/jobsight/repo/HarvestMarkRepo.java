@@ -0,0 +1,9 @@
+package ai.jobsight.repo;
+
+import ai.jobsight.ingest.HarvestMark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface HarvestMarkRepo extends JpaRepository<HarvestMark, String> {
+}
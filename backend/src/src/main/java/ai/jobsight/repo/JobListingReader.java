@@ -0,0 +1,89 @@
+package ai.jobsight.repo;
+
+import ai.jobsight.domain.enums.WorkType;
+import ai.jobsight.domain.query.KeysetCursor;
+import ai.jobsight.dto.JobPostingDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.*;
+
+import static ai.jobsight.repo.JobPostingRepository.*;
+
+/**
+ * Listing read path: JobPostingDTO rows straight from SQL in two queries
+ * (one projection without description, one batched job_skills fetch keyed by the page's ids).
+ * The JobPosting entity graph (EAGER skills, description) stays for detail views.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobListingReader {
+
+    private static final String COLUMNS =
+            "j.id, j.title, j.company, j.location, j.work_type, j.min, j.max, j.currency, j.posted_at, j.url, j.provider";
+
+    private static final RowMapper<JobPostingDTO> ROW = (rs, n) -> {
+        String workType = rs.getString("work_type");
+        Timestamp postedAt = rs.getTimestamp("posted_at");
+        return JobPostingDTO.builder()
+                .id(rs.getLong("id"))
+                .title(rs.getString("title"))
+                .company(rs.getString("company"))
+                .location(rs.getString("location"))
+                .workType(workType == null ? null : WorkType.valueOf(workType))
+                .salaryMin(rs.getObject("min", Integer.class))
+                .salaryMax(rs.getObject("max", Integer.class))
+                .currency(rs.getString("currency"))
+                .postedAt(postedAt == null ? null : postedAt.toInstant())
+                .url(rs.getString("url"))
+                .provider(rs.getString("provider"))
+                .build();
+    };
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /** Ranked page, same order as {@link JobPostingRepository#TEXT_FILTER} + RANK. */
+    public List<JobPostingDTO> searchText(String text, String location, int page, int size) {
+        var params = filter(text, location)
+                .addValue("lim", size)
+                .addValue("off", (long) page * size);
+        return withSkills(jdbc.query("select " + COLUMNS + " from job_postings j where " + TEXT_FILTER +
+                " order by " + RANK + " desc, j.posted_at desc nulls last, j.id desc limit :lim offset :off", params, ROW));
+    }
+
+    /** Keyset page after the cursor in (posted_at DESC, id DESC) order; rows without posted_at are not listed. */
+    public List<JobPostingDTO> searchAfter(String text, String location, KeysetCursor after, int limit) {
+        var params = filter(text, location)
+                .addValue("ts", Timestamp.from(after.at()))
+                .addValue("id", after.id())
+                .addValue("lim", limit);
+        return withSkills(jdbc.query("select " + COLUMNS + " from job_postings j where " + TEXT_FILTER +
+                " and j.posted_at <= :ts and (j.posted_at < :ts or j.id < :id)" +
+                " order by j.posted_at desc, j.id desc limit :lim", params, ROW));
+    }
+
+    private List<JobPostingDTO> withSkills(List<JobPostingDTO> rows) {
+        if (rows.isEmpty()) return rows;
+        Map<Long, JobPostingDTO> byId = new HashMap<>(rows.size() * 2);
+        for (JobPostingDTO r : rows) {
+            r.setSkills(new HashSet<>());
+            byId.put(r.getId(), r);
+        }
+        jdbc.query("select job_id, skill from job_skills where job_id in (:ids)",
+                Map.of("ids", byId.keySet()),
+                rs -> { byId.get(rs.getLong(1)).getSkills().add(rs.getString(2)); });
+        return rows;
+    }
+
+    private static MapSqlParameterSource filter(String text, String location) {
+        return new MapSqlParameterSource()
+                .addValue("q", term(text))
+                .addValue("qLike", likePattern(text))
+                .addValue("loc", term(location))
+                .addValue("locLike", likePattern(location));
+    }
+}
@@ -0,0 +1,149 @@
+package ai.jobsight.repo;
+
+import ai.jobsight.domain.JobPosting;
+import ai.jobsight.ingest.IngestionProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.util.*;
+
+/**
+ * Set-based ingestion of provider batches.
+ * JobPosting uses IDENTITY ids, so Hibernate cannot batch its inserts; here a whole batch
+ * (postings + job_skills rows) goes out as a few multi-row statements relying on the
+ * idx_provider_providerId unique index for dedupe.
+ */
+@Slf4j
+@Repository
+public class JobPostingBulkWriter {
+
+    /** 13 binds per row keeps a full chunk far below Postgres' 32767 bind-parameter limit. */
+    private static final int ROWS_PER_STATEMENT = 500;
+
+    private static final String INSERT_HEAD = """
+            insert into job_postings (provider, provider_id, title, company, location, work_type, seniority,
+                                      min, max, currency, posted_at, url, description)
+            values
+            """;
+    private static final String INSERT_TAIL = """
+
+            on conflict (provider, provider_id) do nothing
+            returning id, provider, provider_id
+            """;
+
+    /** A posting that was actually inserted by this call, with its generated id. */
+    public record Inserted(long id, JobPosting posting) {}
+
+    private final JdbcTemplate jdbc;
+    private final Set<String> recentlySeen;
+
+    public JobPostingBulkWriter(JdbcTemplate jdbc, IngestionProperties ingestion) {
+        this.jdbc = jdbc;
+        int seenCacheSize = ingestion.getSeenCacheSize();
+        this.recentlySeen = Collections.newSetFromMap(Collections.synchronizedMap(
+                new LinkedHashMap<>(1024, 0.75f, true) {
+                    @Override protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                        return size() > seenCacheSize;
+                    }
+                }));
+    }
+
+    /**
+     * Inserts postings not yet stored; existing (provider, providerId) pairs are left untouched,
+     * same as the old exists-then-save loop. Input postings are not modified.
+     */
+    @Transactional
+    public List<Inserted> upsert(Collection<JobPosting> postings) {
+        // Recently seen postings skip the database entirely
+        Map<String, JobPosting> pending = new LinkedHashMap<>();
+        for (JobPosting j : postings) {
+            String key = key(j.getProvider().name(), j.getProviderId());
+            if (!recentlySeen.contains(key)) pending.putIfAbsent(key, j);
+        }
+        if (pending.isEmpty()) return List.of();
+
+        List<Inserted> inserted = new ArrayList<>();
+        List<JobPosting> rows = new ArrayList<>(pending.values());
+        for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+            insertChunk(rows.subList(from, Math.min(rows.size(), from + ROWS_PER_STATEMENT)), pending, inserted);
+        }
+        insertSkills(inserted);
+
+        rememberAfterCommit(pending.keySet());
+        log.debug("Bulk upsert: {} candidates, {} new", pending.size(), inserted.size());
+        return inserted;
+    }
+
+    private void insertChunk(List<JobPosting> chunk, Map<String, JobPosting> byKey, List<Inserted> out) {
+        StringBuilder sql = new StringBuilder(INSERT_HEAD);
+        List<Object> args = new ArrayList<>(chunk.size() * 13);
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) sql.append(',');
+            sql.append("(?,?,?,?,?,?,?,?,?,?,?,?,?)");
+            JobPosting j = chunk.get(i);
+            args.add(j.getProvider().name());
+            args.add(j.getProviderId());
+            args.add(j.getTitle());
+            args.add(j.getCompany());
+            args.add(j.getLocation());
+            args.add(j.getWorkType() == null ? null : j.getWorkType().name());
+            args.add(j.getSeniority() == null ? null : j.getSeniority().name());
+            args.add(j.getSalary() == null ? null : j.getSalary().getMin());
+            args.add(j.getSalary() == null ? null : j.getSalary().getMax());
+            args.add(j.getCurrency());
+            args.add(j.getPostedAt() == null ? null : Timestamp.from(j.getPostedAt()));
+            args.add(j.getUrl());
+            args.add(j.getDescription());
+        }
+        sql.append(INSERT_TAIL);
+
+        jdbc.query(sql.toString(), rs -> {
+            String key = key(rs.getString("provider"), rs.getString("provider_id"));
+            out.add(new Inserted(rs.getLong("id"), byKey.get(key)));
+        }, args.toArray());
+    }
+
+    private void insertSkills(List<Inserted> inserted) {
+        List<Object[]> pairs = new ArrayList<>();
+        for (Inserted i : inserted) {
+            Set<String> skills = i.posting().getSkills();
+            if (skills == null) continue;
+            for (String s : skills) pairs.add(new Object[]{i.id(), s});
+        }
+        for (int from = 0; from < pairs.size(); from += ROWS_PER_STATEMENT) {
+            List<Object[]> chunk = pairs.subList(from, Math.min(pairs.size(), from + ROWS_PER_STATEMENT));
+            StringBuilder sql = new StringBuilder("insert into job_skills (job_id, skill) values ");
+            List<Object> args = new ArrayList<>(chunk.size() * 2);
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0) sql.append(',');
+                sql.append("(?,?)");
+                args.add(chunk.get(i)[0]);
+                args.add(chunk.get(i)[1]);
+            }
+            jdbc.update(sql.toString(), args.toArray());
+        }
+    }
+
+    /** Only remember keys once they are durable; a rollback must not hide postings from the next attempt. */
+    private void rememberAfterCommit(Collection<String> keys) {
+        List<String> copy = List.copyOf(keys);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recentlySeen.addAll(copy);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override public void afterCommit() {
+                recentlySeen.addAll(copy);
+            }
+        });
+    }
+
+    private static String key(String provider, String providerId) {
+        return provider + "::" + providerId;
+    }
+}
@@ -1,15 +1,83 @@
 package ai.jobsight.repo;
 
 import ai.jobsight.domain.JobPosting;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Locale;
 
 public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
 
-    Page<JobPosting> findByTitleContainingIgnoreCaseAndLocationContainingIgnoreCase(
-            String title, String location, Pageable pageable
-    );
+    /**
+     * Shared filter over job_postings j (see {@link JobPostingSearchIndex}); used by {@link JobListingReader} and stats.
+     * :q matches the ranked tsvector over title/company/location, or a title substring via pg_trgm;
+     * :loc is a location substring via pg_trgm. Empty strings disable a condition.
+     */
+    String TEXT_FILTER = """
+            (:q = '' or j.search_tsv @@ plainto_tsquery('simple', :q) or lower(j.title) like :qLike)
+            and (:loc = '' or lower(j.location) like :locLike)
+            """;
+
+    String RANK = """
+            case when :q = '' then 0 else ts_rank(j.search_tsv, plainto_tsquery('simple', :q)) end
+            """;
+
+    /** count(*) that stops at :cap rows. */
+    @Query(value = "select count(*) from (select 1 from job_postings j where " + TEXT_FILTER + " limit :cap) t",
+            nativeQuery = true)
+    long countCapped(@Param("q") String q, @Param("qLike") String qLike,
+                     @Param("loc") String loc, @Param("locLike") String locLike, @Param("cap") int cap);
+
+    @Query(value = "select count(*) from job_postings j where " + TEXT_FILTER, nativeQuery = true)
+    long countText(@Param("q") String q, @Param("qLike") String qLike,
+                   @Param("loc") String loc, @Param("locLike") String locLike);
+
+    /** Exact count, or with a cap at most {@code cap + 1}: a result above {@code cap} means "more than cap". */
+    default long countText(String text, String location, Integer cap) {
+        return cap == null
+                ? countText(term(text), likePattern(text), term(location), likePattern(location))
+                : countCapped(term(text), likePattern(text), term(location), likePattern(location), cap + 1);
+    }
+
+    /** Rows the keyset listing can reach: it orders by posted_at, so undated postings are never listed. */
+    String DATED = " and j.posted_at is not null";
+
+    @Query(value = "select count(*) from (select 1 from job_postings j where " + TEXT_FILTER + DATED + " limit :cap) t",
+            nativeQuery = true)
+    long countDatedCapped(@Param("q") String q, @Param("qLike") String qLike,
+                          @Param("loc") String loc, @Param("locLike") String locLike, @Param("cap") int cap);
+
+    @Query(value = "select count(*) from job_postings j where " + TEXT_FILTER + DATED, nativeQuery = true)
+    long countDated(@Param("q") String q, @Param("qLike") String qLike,
+                    @Param("loc") String loc, @Param("locLike") String locLike);
+
+    /** Same as {@link #countText(String, String, Integer)} over the rows {@link JobListingReader#searchAfter} can page through. */
+    default long countDated(String text, String location, Integer cap) {
+        return cap == null
+                ? countDated(term(text), likePattern(text), term(location), likePattern(location))
+                : countDatedCapped(term(text), likePattern(text), term(location), likePattern(location), cap + 1);
+    }
 
     boolean existsByProviderAndProviderId(ai.jobsight.domain.enums.JobSource provider, String providerId);
+
+    static String term(String s) {
+        return s == null ? "" : s.trim();
+    }
+
+    /**
+     * {@link #TEXT_FILTER} with its terms read from columns q, q_like, loc, loc_like of {@code alias}
+     * instead of parameters, for matching many queries against rows in one statement.
+     */
+    static String textFilterOver(String alias) {
+        return TEXT_FILTER.replace(":qLike", alias + ".q_like").replace(":locLike", alias + ".loc_like")
+                .replace(":q", alias + ".q").replace(":loc", alias + ".loc");
+    }
+
+    /** Lower-cased '%term%' with LIKE wildcards escaped (Postgres' default escape is backslash). */
+    static String likePattern(String s) {
+        String t = term(s).toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + t + "%";
+    }
 }
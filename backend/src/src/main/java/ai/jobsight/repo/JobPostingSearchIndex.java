@@ -0,0 +1,95 @@
+package ai.jobsight.repo;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Text-search schema for job_postings that Hibernate's ddl-auto cannot express, applied like a one-shot migration:
+ * every step first checks the catalog, so a migrated database sees no DDL (and no locks) on startup.
+ * The stored, generated tsvector over title/company/location (kept current by Postgres on every insert) is added
+ * before requests are served, because {@link JobPostingRepository#TEXT_FILTER} needs it; that first run rewrites
+ * job_postings once. The GIN indexes (tsvector, pg_trgm on title and location) are built CONCURRENTLY in the
+ * background after startup, so writes are never blocked; queries only run slower until they are valid.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class JobPostingSearchIndex {
+
+    private static final String SEARCH_TSV = """
+            alter table job_postings add column search_tsv tsvector
+                generated always as (
+                    setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+                    setweight(to_tsvector('simple', coalesce(company, '')), 'B') ||
+                    setweight(to_tsvector('simple', coalesce(location, '')), 'C')
+                ) stored
+            """;
+
+    private static final Map<String, String> INDEXES = Map.of(
+            "idx_job_postings_search_tsv", "job_postings using gin (search_tsv)",
+            "idx_job_postings_title_trgm", "job_postings using gin (lower(title) gin_trgm_ops)",
+            "idx_job_postings_location_trgm", "job_postings using gin (lower(location) gin_trgm_ops)");
+
+    /** Created by earlier versions; no query filters on company by substring. */
+    private static final List<String> DROPPED = List.of("idx_job_postings_company_trgm");
+
+    private final JdbcTemplate jdbc;
+
+    @PostConstruct
+    void ensureColumn() {
+        if (!exists("select 1 from pg_extension where extname = 'pg_trgm'")) {
+            jdbc.execute("create extension if not exists pg_trgm");
+        }
+        if (!exists("select 1 from information_schema.columns where table_name = 'job_postings' and column_name = 'search_tsv'")) {
+            log.warn("Adding job_postings.search_tsv; this rewrites the table once");
+            jdbc.execute(SEARCH_TSV);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void ensureIndexesInBackground() {
+        Thread.ofVirtual().name("search-index").start(this::ensureIndexes);
+    }
+
+    private void ensureIndexes() {
+        INDEXES.forEach((name, definition) -> {
+            try {
+                List<Boolean> valid = jdbc.queryForList(
+                        "select i.indisvalid from pg_class c join pg_index i on i.indexrelid = c.oid where c.relname = ?",
+                        Boolean.class, name);
+                if (valid.contains(Boolean.TRUE)) return;
+                if (!valid.isEmpty()) jdbc.execute("drop index concurrently if exists " + name); // left by an interrupted build
+                long started = System.nanoTime();
+                jdbc.execute("create index concurrently " + name + " on " + definition);
+                log.info("Built index {} in {} ms", name, (System.nanoTime() - started) / 1_000_000);
+            } catch (Exception e) {
+                // e.g. another replica is building it right now; the next startup checks again
+                log.warn("Index {} not built: {}", name, e.toString());
+            }
+        });
+        for (String name : DROPPED) {
+            try {
+                if (exists("select 1 from pg_class where relname = '" + name + "'")) {
+                    jdbc.execute("drop index concurrently if exists " + name);
+                    log.info("Dropped unused index {}", name);
+                }
+            } catch (Exception e) {
+                log.warn("Index {} not dropped: {}", name, e.toString());
+            }
+        }
+    }
+
+    private boolean exists(String sql) {
+        return !jdbc.queryForList(sql).isEmpty();
+    }
+}
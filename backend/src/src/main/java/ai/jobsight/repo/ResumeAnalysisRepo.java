@@ -0,0 +1,9 @@
+package ai.jobsight.repo;
+
+import ai.jobsight.resume.ResumeAnalysis;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ResumeAnalysisRepo extends JpaRepository<ResumeAnalysis, String> {
+}
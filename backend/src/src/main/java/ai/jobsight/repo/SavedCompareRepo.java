@@ -1,12 +1,23 @@
 package ai.jobsight.repo;
 
+import ai.jobsight.dto.SavedSummaryDTO;
 import ai.jobsight.save.SavedCompare;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 
 @Repository
 public interface SavedCompareRepo extends JpaRepository<SavedCompare, Long> {
     List<SavedCompare> findByUserId(Long userId);
-}
\ No newline at end of file
+
+    /** Newest first, strictly after the (createdAt, id) cursor; served by the (user_id, created_at) index. */
+    @Query("select new ai.jobsight.dto.SavedSummaryDTO(c.id, c.title, 'compare', c.createdAt) " +
+            "from SavedCompare c where c.userId = :uid " +
+            "and (c.createdAt < :at or (c.createdAt = :at and c.id < :id)) order by c.createdAt desc, c.id desc")
+    List<SavedSummaryDTO> summaries(@Param("uid") Long userId, @Param("at") Instant at, @Param("id") long id, Limit limit);
+}
@@ -1,12 +1,23 @@
 package ai.jobsight.repo;
 
+import ai.jobsight.dto.SavedSummaryDTO;
 import ai.jobsight.save.SavedQuizResult;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 
 @Repository
 public interface SavedQuizResultRepo extends JpaRepository<SavedQuizResult, Long> {
     List<SavedQuizResult> findByUserId(Long userId);
+
+    /** Newest first, strictly after the (createdAt, id) cursor; served by the (user_id, created_at) index. */
+    @Query("select new ai.jobsight.dto.SavedSummaryDTO(q.id, 'Quiz result', 'quiz', q.createdAt) " +
+            "from SavedQuizResult q where q.userId = :uid " +
+            "and (q.createdAt < :at or (q.createdAt = :at and q.id < :id)) order by q.createdAt desc, q.id desc")
+    List<SavedSummaryDTO> summaries(@Param("uid") Long userId, @Param("at") Instant at, @Param("id") long id, Limit limit);
 }
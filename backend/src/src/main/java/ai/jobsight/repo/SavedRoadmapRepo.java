@@ -1,12 +1,23 @@
 package ai.jobsight.repo;
 
+import ai.jobsight.dto.SavedSummaryDTO;
 import ai.jobsight.save.SavedRoadmap;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 
 @Repository
 public interface SavedRoadmapRepo extends JpaRepository<SavedRoadmap, Long> {
     List<SavedRoadmap> findByUserId(Long userId);
+
+    /** Newest first, strictly after the (createdAt, id) cursor; served by the (user_id, created_at) index. */
+    @Query("select new ai.jobsight.dto.SavedSummaryDTO(r.id, r.title, r.source, r.createdAt) " +
+            "from SavedRoadmap r where r.userId = :uid " +
+            "and (r.createdAt < :at or (r.createdAt = :at and r.id < :id)) order by r.createdAt desc, r.id desc")
+    List<SavedSummaryDTO> summaries(@Param("uid") Long userId, @Param("at") Instant at, @Param("id") long id, Limit limit);
 }
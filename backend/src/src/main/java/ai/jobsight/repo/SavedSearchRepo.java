@@ -1,13 +1,30 @@
 package ai.jobsight.repo;
 
+import ai.jobsight.dto.SavedSummaryDTO;
 import ai.jobsight.save.SavedSearch;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 
 @Repository
 public interface SavedSearchRepo extends JpaRepository<SavedSearch, Long> {
     List<SavedSearch> findByUserId(Long userId);
+
+    /** Newest first, strictly after the (createdAt, id) cursor; served by the (user_id, created_at) index. */
+    @Query("select new ai.jobsight.dto.SavedSummaryDTO(s.id, s.what, 'search', s.createdAt) " +
+            "from SavedSearch s where s.userId = :uid " +
+            "and (s.createdAt < :at or (s.createdAt = :at and s.id < :id)) order by s.createdAt desc, s.id desc")
+    List<SavedSummaryDTO> summaries(@Param("uid") Long userId, @Param("at") Instant at, @Param("id") long id, Limit limit);
+
+    /** Distinct (what, location) pairs, most saved first; seeds background ingestion. */
+    @Query("select s.what, s.location from SavedSearch s where s.what is not null " +
+            "group by s.what, s.location order by count(s) desc")
+    List<Object[]> popularQueries(Pageable limit);
 }
 
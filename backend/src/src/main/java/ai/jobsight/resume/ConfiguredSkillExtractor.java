@@ -0,0 +1,115 @@
+package ai.jobsight.resume;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The extractor callers get injected, and the single entry point for CV uploads:
+ * resume.extractor.mode picks local (in-JVM) or remote (Python analyzer);
+ * with resume.extractor.fallback the other one is tried when the primary fails.
+ * Uploads above resume.upload.max-size are rejected before any byte is read (413), and at most
+ * resume.upload.max-concurrent are processed at once; callers waiting longer than acquire-timeout get 503.
+ * Neither extractor copies the upload to another file; both read it from the multipart temp file as a stream
+ * (PDFs into PDFBox's chunked buffer, which needs random access).
+ * Results are cached by content hash ({@link ResumeSkillCache}). The hash has to be known before extracting
+ * for a hit to skip extraction, so it is its own pass over the just-written temp file (normally still in the
+ * page cache); it runs under the permit like the extraction, so all upload I/O is bounded.
+ */
+@Slf4j
+@Primary
+@Component
+public class ConfiguredSkillExtractor implements SkillExtractor {
+
+    private final SkillExtractor primary;
+    private final SkillExtractor fallback;
+    private final long maxBytes;
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+    private final ResumeSkillCache cache;
+    private final MeterRegistry meters;
+
+    public ConfiguredSkillExtractor(
+            LocalSkillExtractor local,
+            RemoteSkillExtractor remote,
+            ResumeSkillCache cache,
+            MeterRegistry meters,
+            @Value("${resume.extractor.mode:local}") String mode,
+            @Value("${resume.extractor.fallback:true}") boolean fallback,
+            @Value("${resume.upload.max-size:10MB}") DataSize maxSize,
+            @Value("${resume.upload.max-concurrent:8}") int maxConcurrent,
+            @Value("${resume.upload.acquire-timeout:2s}") Duration acquireTimeout
+    ) {
+        this.cache = cache;
+        this.meters = meters;
+        this.maxBytes = maxSize.toBytes();
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeout = acquireTimeout;
+        boolean remoteFirst = "remote".equalsIgnoreCase(mode.trim());
+        this.primary = remoteFirst ? remote : local;
+        this.fallback = !fallback ? null : remoteFirst ? local : remote;
+        log.info("Resume skill extraction: {} (fallback: {})", primary.name(), this.fallback == null ? "none" : this.fallback.name());
+    }
+
+    @Override public String name() { return primary.name(); }
+
+    @Override
+    public List<String> extract(MultipartFile file) throws Exception {
+        if (file.isEmpty()) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Empty file");
+        if (file.getSize() > maxBytes) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "Resume exceeds " + maxBytes + " bytes");
+        }
+        if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many resume uploads in progress");
+        }
+        try {
+            // Re-uploads of the same file (analyze, then from-resume, ...) are answered from the cache
+            String sha256 = ResumeSkillCache.sha256(file);
+            var cached = cache.get(sha256);
+            meters.counter("jobsight.resume.cache", "result", cached.isPresent() ? "hit" : "miss").increment();
+            if (cached.isPresent()) return cached.get();
+
+            List<String> skills = extractWithFallback(file);
+            cache.put(sha256, skills);
+            return skills;
+        } finally {
+            permits.release();
+        }
+    }
+
+    private List<String> extractWithFallback(MultipartFile file) throws Exception {
+        try {
+            return timed(primary, file);
+        } catch (Exception e) {
+            if (fallback == null) throw e;
+            log.warn("{} skill extraction failed for {}, trying {}: {}",
+                    primary.name(), file.getOriginalFilename(), fallback.name(), e.toString());
+            return timed(fallback, file);
+        }
+    }
+
+    /** jobsight.resume.extract{extractor=local|remote, outcome}; remote is the analyzer round trip. */
+    private List<String> timed(SkillExtractor extractor, MultipartFile file) throws Exception {
+        Timer.Sample sample = Timer.start(meters);
+        String outcome = "error";
+        try {
+            List<String> skills = extractor.extract(file);
+            outcome = "success";
+            return skills;
+        } finally {
+            sample.stop(meters.timer("jobsight.resume.extract", "extractor", extractor.name(), "outcome", outcome));
+        }
+    }
+}
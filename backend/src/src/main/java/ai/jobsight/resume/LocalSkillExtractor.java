@@ -0,0 +1,138 @@
+package ai.jobsight.resume;
+
+import ai.jobsight.text.TextClassifier;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * In-process equivalent of the Python analyzer: PDF text via PDFBox, DOCX text via the
+ * word/document.xml part (StAX, no DOM), otherwise plain UTF-8; then the shared dictionary.
+ */
+@Component
+public class LocalSkillExtractor implements SkillExtractor {
+
+    private static final XMLInputFactory XML = XMLInputFactory.newFactory();
+    static {
+        XML.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    private final TextClassifier classifier;
+    private final int maxChars;
+    private final int maxPages;
+
+    public LocalSkillExtractor(
+            TextClassifier classifier,
+            @Value("${resume.extractor.max-chars:1000000}") int maxChars,
+            @Value("${resume.extractor.max-pages:50}") int maxPages
+    ) {
+        this.classifier = classifier;
+        this.maxChars = maxChars;
+        this.maxPages = maxPages;
+    }
+
+    @Override public String name() { return "local"; }
+
+    @Override
+    public List<String> extract(MultipartFile file) throws IOException {
+        String text;
+        try (InputStream in = new BufferedInputStream(file.getInputStream())) {
+            text = switch (sniff(in, file.getOriginalFilename())) {
+                case PDF -> readPdf(file, in);
+                case DOCX -> readDocx(in);
+                case TEXT -> readText(in);
+            };
+        }
+        // Same cleanup as the analyzer: multi-word skills must not be split by line breaks
+        String normalized = text.replaceAll("\\s+", " ");
+        return classifier.skills(normalized).stream().sorted().toList();
+    }
+
+    private enum Format { PDF, DOCX, TEXT }
+
+    /** Magic bytes first ("%PDF", zip "PK"), then the file extension. */
+    private static Format sniff(InputStream in, String filename) throws IOException {
+        in.mark(4);
+        byte[] head = in.readNBytes(4);
+        in.reset();
+        if (head.length >= 4 && head[0] == '%' && head[1] == 'P' && head[2] == 'D' && head[3] == 'F') return Format.PDF;
+        if (head.length >= 2 && head[0] == 'P' && head[1] == 'K') return Format.DOCX;
+        String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".pdf")) return Format.PDF;
+        if (name.endsWith(".docx")) return Format.DOCX;
+        return Format.TEXT;
+    }
+
+    /**
+     * PDFBox needs random access. A file-backed upload is opened in place; otherwise the upload stream is read
+     * into PDFBox's chunked buffer (bounded by resume.upload.max-size x max-concurrent) rather than copied to a
+     * second temp file. Decoded streams are cached in temp files, not on the heap.
+     */
+    private String readPdf(MultipartFile file, InputStream in) throws IOException {
+        Resource resource = file.getResource();
+        try (PDDocument doc = resource.isFile()
+                ? Loader.loadPDF(resource.getFile(), IOUtils.createTempFileOnlyStreamCache())
+                : Loader.loadPDF(new RandomAccessReadBuffer(in), IOUtils.createTempFileOnlyStreamCache())) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setEndPage(maxPages);
+            String text = stripper.getText(doc);
+            return text.length() > maxChars ? text.substring(0, maxChars) : text;
+        }
+    }
+
+    private String readDocx(InputStream in) throws IOException {
+        ZipInputStream zip = new ZipInputStream(in);
+        for (ZipEntry e; (e = zip.getNextEntry()) != null; ) {
+            if ("word/document.xml".equals(e.getName())) return documentText(zip);
+        }
+        throw new IOException("Not a DOCX file: word/document.xml missing");
+    }
+
+    /** Concatenates <w:t> runs, one line per <w:p> paragraph; stops at maxChars (zip bombs). */
+    private String documentText(InputStream xml) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        try {
+            XMLStreamReader r = XML.createXMLStreamReader(xml);
+            boolean inText = false;
+            while (r.hasNext() && sb.length() < maxChars) {
+                switch (r.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> inText = "t".equals(r.getLocalName());
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        if ("p".equals(r.getLocalName())) sb.append('\n');
+                        inText = false;
+                    }
+                    case XMLStreamConstants.CHARACTERS -> { if (inText) sb.append(r.getText()); }
+                    default -> { }
+                }
+            }
+            r.close();
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed DOCX document.xml", e);
+        }
+        return sb.toString();
+    }
+
+    private String readText(InputStream in) throws IOException {
+        return new String(in.readNBytes(maxChars), StandardCharsets.UTF_8);
+    }
+}
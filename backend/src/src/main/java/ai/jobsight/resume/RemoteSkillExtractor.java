@@ -0,0 +1,54 @@
+package ai.jobsight.resume;
+
+import ai.jobsight.text.TextClassifier;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/** Delegates to the FastAPI resume-analyzer (POST /analyze, multipart). */
+@Component
+public class RemoteSkillExtractor implements SkillExtractor {
+
+    private final RestClient http;
+    private final TextClassifier classifier;
+
+    public RemoteSkillExtractor(@Qualifier("resumeClient") RestClient http, TextClassifier classifier) {
+        this.http = http;
+        this.classifier = classifier;
+    }
+
+    @Override public String name() { return "remote"; }
+
+    @Override
+    public List<String> extract(MultipartFile file) {
+        var mb = new MultipartBodyBuilder();
+        mb.part("file", file.getResource()) // streamed from the upload, no byte[] copy
+                .filename(Objects.requireNonNullElse(file.getOriginalFilename(), "resume.txt"))
+                .contentType(file.getContentType() != null
+                        ? MediaType.parseMediaType(file.getContentType())
+                        : MediaType.APPLICATION_OCTET_STREAM);
+        mb.part("language", "en");
+
+        Map<?, ?> body = http.post()
+                .uri("/analyze")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .accept(MediaType.APPLICATION_JSON)
+                .body(mb.build())
+                .retrieve()
+                .body(Map.class);
+
+        if (body == null || !(body.get("skills") instanceof List<?> skills)) return List.of();
+        return skills.stream()
+                .map(s -> classifier.canonicalSkill(String.valueOf(s)))
+                .distinct()
+                .sorted()
+                .toList();
+    }
+}
@@ -0,0 +1,16 @@
+package ai.jobsight.resume;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.Instant;
+
+/** Persisted skill extraction result, keyed by the SHA-256 of the uploaded file. */
+@Entity @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+@Table(name = "resume_analyses")
+public class ResumeAnalysis {
+    @Id @Column(length = 64) String sha256;
+    /** {@link ai.jobsight.text.TextClassifier#version()} the skills were canonicalized with. */
+    @Column(nullable = false, length = 32) String dictionaryVersion;
+    @Column(nullable = false, columnDefinition = "text") String skills; // comma-separated, sorted
+    Instant createdAt;
+}
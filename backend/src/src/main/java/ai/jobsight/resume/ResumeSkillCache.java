@@ -0,0 +1,101 @@
+package ai.jobsight.resume;
+
+import ai.jobsight.repo.ResumeAnalysisRepo;
+import ai.jobsight.text.TextClassifier;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Content-addressed cache of extracted CV skills: SHA-256 of the file -> skills.
+ * Caffeine in front of the resume_analyses table; rows written with another dictionary version are misses.
+ * Storage failures never fail the upload, they only cost a re-extraction.
+ */
+@Slf4j
+@Component
+public class ResumeSkillCache {
+
+    private final ResumeAnalysisRepo repo;
+    private final TextClassifier classifier;
+    private final Cache<String, List<String>> memory;
+
+    public ResumeSkillCache(
+            ResumeAnalysisRepo repo,
+            TextClassifier classifier,
+            @Value("${resume.cache.max-size:2000}") long maxSize,
+            @Value("${resume.cache.expire-after-access:2h}") Duration expireAfterAccess
+    ) {
+        this.repo = repo;
+        this.classifier = classifier;
+        this.memory = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    /** Hex SHA-256 of the upload, streamed from its temp file in 8 KB chunks. */
+    public static String sha256(MultipartFile file) throws IOException {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream in = new DigestInputStream(file.getInputStream(), md)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(md.digest());
+    }
+
+    public Optional<List<String>> get(String sha256) {
+        List<String> hit = memory.getIfPresent(sha256);
+        if (hit != null) return Optional.of(hit);
+        try {
+            return repo.findById(sha256)
+                    .filter(r -> classifier.version().equals(r.getDictionaryVersion()))
+                    .map(r -> {
+                        List<String> skills = split(r.getSkills());
+                        memory.put(sha256, skills);
+                        return skills;
+                    });
+        } catch (Exception e) {
+            log.warn("Resume cache lookup failed: {}", e.toString());
+            return Optional.empty();
+        }
+    }
+
+    public void put(String sha256, List<String> skills) {
+        List<String> copy = List.copyOf(skills);
+        memory.put(sha256, copy);
+        try {
+            repo.save(ResumeAnalysis.builder()
+                    .sha256(sha256)
+                    .dictionaryVersion(classifier.version())
+                    .skills(String.join(",", copy))
+                    .createdAt(Instant.now())
+                    .build());
+        } catch (Exception e) {
+            log.warn("Resume cache write failed: {}", e.toString());
+        }
+    }
+
+    private static List<String> split(String joined) {
+        return joined.isEmpty() ? List.of() : List.copyOf(Arrays.asList(joined.split(",")));
+    }
+}
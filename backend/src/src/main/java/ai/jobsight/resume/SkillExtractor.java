@@ -0,0 +1,14 @@
+package ai.jobsight.resume;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+/**
+ * Strategy interface for CV skill extraction: the remote Python analyzer or the in-process extractor.
+ * Returns canonical, lower-case skill names (see {@link ai.jobsight.text.TextClassifier}), sorted.
+ */
+public interface SkillExtractor {
+    String name(); // e.g. "local"
+    List<String> extract(MultipartFile file) throws Exception;
+}
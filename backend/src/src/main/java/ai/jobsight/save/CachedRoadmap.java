@@ -0,0 +1,28 @@
+package ai.jobsight.save;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/** Generated precise-roadmap text, shared by every request with the same canonical key. */
+@Entity
+@Table(name = "cached_roadmap", indexes = @Index(columnList = "created_at"))
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class CachedRoadmap {
+    @Id
+    @Column(name = "request_key", length = 64)
+    private String requestKey;     // SHA-256 of the canonical request
+
+    @Column(name = "canonical_request", columnDefinition = "text", nullable = false)
+    private String canonicalRequest;
+
+    @Column(nullable = false)
+    private String model;
+
+    @Column(name = "plan_text", columnDefinition = "text", nullable = false)
+    private String planText;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
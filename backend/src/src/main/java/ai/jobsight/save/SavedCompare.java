@@ -5,10 +5,11 @@ import lombok.*;
 import java.time.Instant;
 
 @Entity @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+@Table(indexes = @Index(columnList = "user_id, created_at"))
 public class SavedCompare {
     @Id @GeneratedValue(strategy=GenerationType.IDENTITY) Long id;
-    @Column(nullable=false) Long userId;
+    @Column(name="user_id", nullable=false) Long userId;
     @Column(columnDefinition="jsonb") String jobsJson; // store up to 3 selected job cards as JSON
-    Instant createdAt;
+    @Column(name="created_at") Instant createdAt;
     String title; // optional label
 }
@@ -5,9 +5,10 @@ import lombok.*;
 import java.time.Instant;
 
 @Entity @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+@Table(indexes = @Index(columnList = "user_id, created_at"))
 public class SavedQuizResult {
     @Id @GeneratedValue(strategy=GenerationType.IDENTITY) Long id;
-    @Column(nullable=false) Long userId;
+    @Column(name="user_id", nullable=false) Long userId;
     @Column(columnDefinition="jsonb") String resultJson; // your quiz result structure
-    Instant createdAt;
+    @Column(name="created_at") Instant createdAt;
 }
@@ -9,7 +9,7 @@ import java.time.Instant;
 import java.util.Map;
 
 @Entity
-@Table(name = "saved_roadmap")
+@Table(name = "saved_roadmap", indexes = @Index(columnList = "user_id, created_at"))
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class SavedRoadmap {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -5,14 +5,15 @@ import lombok.*;
 import java.time.Instant;
 
 @Entity @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+@Table(indexes = @Index(columnList = "user_id, created_at"))
 public class SavedSearch {
     @Id @GeneratedValue(strategy=GenerationType.IDENTITY) Long id;
-    @Column(nullable=false) Long userId;
+    @Column(name="user_id", nullable=false) Long userId;
     String what;
     @Column(name = "where_query")   // or "location_query"
     String location;
     String sortBy;
     Boolean fullTime;
     Boolean permanent;
-    Instant createdAt;
+    @Column(name="created_at") Instant createdAt;
 }
@@ -10,7 +10,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.oauth2.jwt.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -22,7 +21,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
-    private final JwtDecoder jwtDecoder;
+    private static final List<SimpleGrantedAuthority> ROLE_USER = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private final VerifiedTokenCache tokens;
 
     @Override
     protected void doFilterInternal(HttpServletRequest req,
@@ -49,20 +50,10 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
 
         if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            try {
-                Jwt jwt = jwtDecoder.decode(token);
-                String sub = jwt.getSubject(); // user id as string
-                Long uid = Long.valueOf(sub);
-
-                var auth = new UsernamePasswordAuthenticationToken(
-                        uid,
-                        null,
-                        List.of(new SimpleGrantedAuthority("ROLE_USER"))
-                );
+            tokens.userId(token).ifPresent(uid -> {
+                var auth = new UsernamePasswordAuthenticationToken(uid, null, ROLE_USER);
                 SecurityContextHolder.getContext().setAuthentication(auth);
-            } catch (JwtException | IllegalArgumentException e) {
-
-            }
+            });
         }
 
         chain.doFilter(req, res);
@@ -0,0 +1,104 @@
+package ai.jobsight.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt off the request threads: a fixed pool with a bounded queue; when both are full the call is
+ * rejected immediately (503) instead of piling up, so a login burst cannot starve other endpoints.
+ * The work factor is calibrated once at startup so one hash takes about auth.bcrypt.target-time
+ * on this host (within min/max strength); hashes with a lower cost are reported by {@link #needsRehash}.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHasher(
+            @Value("${auth.bcrypt.target-time:250ms}") Duration targetTime,
+            @Value("${auth.bcrypt.min-strength:10}") int minStrength,
+            @Value("${auth.bcrypt.max-strength:14}") int maxStrength,
+            @Value("${auth.hashing.threads:0}") int threads,
+            @Value("${auth.hashing.queue:64}") int queue
+    ) {
+        int strength = calibrate(targetTime, minStrength, maxStrength);
+        this.encoder = new BCryptPasswordEncoder(strength);
+
+        int n = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(n, n, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queue),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("Password hashing: bcrypt strength {} (target {} ms), {} threads, queue {}",
+                strength, targetTime.toMillis(), n, queue);
+    }
+
+    /** The calibrated encoder, for code that must hash synchronously. */
+    public BCryptPasswordEncoder encoder() {
+        return encoder;
+    }
+
+    public CompletableFuture<String> encode(String raw) {
+        return submit(() -> encoder.encode(raw));
+    }
+
+    public CompletableFuture<Boolean> matches(String raw, String hash) {
+        return submit(() -> encoder.matches(raw, hash));
+    }
+
+    /** True when {@code hash} was made with a lower work factor than the current one. */
+    public boolean needsRehash(String hash) {
+        return encoder.upgradeEncoding(hash);
+    }
+
+    public int queued() {
+        return executor.getQueue().size();
+    }
+
+    public int active() {
+        return executor.getActiveCount();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> work) {
+        try {
+            return CompletableFuture.supplyAsync(work, executor);
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many sign-ins in progress, retry shortly");
+        }
+    }
+
+    /**
+     * Times one hash at min strength and adds one cost step (x2 time) per doubling still needed to reach the target.
+     */
+    private static int calibrate(Duration target, int min, int max) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(min);
+        probe.encode("calibration"); // warm-up (JIT)
+        long start = System.nanoTime();
+        probe.encode("calibration");
+        long took = Math.max(1, System.nanoTime() - start);
+        int steps = (int) Math.floor(Math.log((double) target.toNanos() / took) / Math.log(2));
+        return Math.max(min, Math.min(max, min + Math.max(0, steps)));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
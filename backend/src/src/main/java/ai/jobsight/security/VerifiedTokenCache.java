@@ -0,0 +1,92 @@
+package ai.jobsight.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * SHA-256(token) -> verified user id, so a token is parsed and HMAC-checked once rather than on every request.
+ * An entry never outlives the token's exp (nor max-ttl); only successfully verified tokens are cached,
+ * and the raw token is never kept in memory.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private record Verified(Long userId, Instant expiresAt) {}
+
+    private final JwtDecoder decoder;
+    private final long maxTtlNanos;
+    private final Cache<String, Verified> cache;
+
+    public VerifiedTokenCache(
+            JwtDecoder decoder,
+            @Value("${auth.token-cache.max-size:10000}") long maxSize,
+            @Value("${auth.token-cache.max-ttl:15m}") Duration maxTtl
+    ) {
+        this.decoder = decoder;
+        this.maxTtlNanos = maxTtl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Verified>() {
+                    @Override public long expireAfterCreate(String k, Verified v, long now) { return ttlNanos(v); }
+                    @Override public long expireAfterUpdate(String k, Verified v, long now, long current) { return ttlNanos(v); }
+                    @Override public long expireAfterRead(String k, Verified v, long now, long current) { return current; }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /** User id of a valid token; empty when it is malformed, forged or expired. */
+    public Optional<Long> userId(String token) {
+        String key = digest(token);
+        Verified v = cache.getIfPresent(key);
+        if (v != null && (v.expiresAt() == null || v.expiresAt().isAfter(Instant.now()))) {
+            return Optional.of(v.userId());
+        }
+        try {
+            Jwt jwt = decoder.decode(token); // signature, exp/nbf
+            Long uid = Long.valueOf(jwt.getSubject());
+            cache.put(key, new Verified(uid, jwt.getExpiresAt()));
+            return Optional.of(uid);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public Cache<String, ?> cache() {
+        return cache;
+    }
+
+    private long ttlNanos(Verified v) {
+        if (v.expiresAt() == null) return maxTtlNanos;
+        long left = Duration.between(Instant.now(), v.expiresAt()).toNanos();
+        return Math.max(0, Math.min(left, maxTtlNanos));
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] d = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(d);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
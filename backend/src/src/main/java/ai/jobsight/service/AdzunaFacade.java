@@ -3,6 +3,9 @@ package ai.jobsight.service;
 import ai.jobsight.dto.JobPostingDTO;
 import ai.jobsight.domain.enums.WorkType;
 import ai.jobsight.providers.adzuna.AdzunaProperties;
+import ai.jobsight.providers.cache.ProviderResponseCache;
+import ai.jobsight.providers.cache.QueryKey;
+import ai.jobsight.text.TextClassifier;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -11,7 +14,6 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
 import java.time.Instant;
@@ -25,18 +27,29 @@ public class AdzunaFacade {
     private final RestClient http;          // qualified RestClient
     private final AdzunaProperties props;   // your props (baseUrl, appId, appKey, country)
     private final ObjectMapper mapper;      // shared Jackson mapper bean
+    private final ProviderResponseCache cache;
+    private final TextClassifier classifier;
 
     public AdzunaFacade(
             @Qualifier("adzunaRestClient") RestClient http,
             AdzunaProperties props,
-            ObjectMapper mapper
+            ObjectMapper mapper,
+            ProviderResponseCache cache,
+            TextClassifier classifier
     ) {
         this.http = http;
         this.props = props;
         this.mapper = mapper;
+        this.cache = cache;
+        this.classifier = classifier;
     }
 
     public List<JobPostingDTO> search(String query, String location, int page, int size) {
+        String key = QueryKey.of("facade", query, location, Math.max(0, page), Math.min(Math.max(size, 1), 50));
+        return cache.fetch("adzuna", key, () -> fetch(query, location, page, size));
+    }
+
+    private List<JobPostingDTO> fetch(String query, String location, int page, int size) {
         int adzunaPage = Math.max(1, page + 1);
         int perPage = Math.min(Math.max(size, 1), 50);
 
@@ -45,25 +58,23 @@ public class AdzunaFacade {
             throw new IllegalStateException("providers.adzuna.country is empty");
         }
 
-        URI uri = UriComponentsBuilder.fromHttpUrl(props.getBaseUrl())
-                .pathSegment(country, "search", String.valueOf(adzunaPage))
-                .queryParam("app_id", props.getAppId())
-                .queryParam("app_key", props.getAppKey())
-                .queryParam("results_per_page", perPage)
-                .queryParam("what", query == null ? "" : query.trim())
-                .queryParam("where", location == null ? "" : location.trim())
-                .queryParam("sort_by", "date")
-                .build(true)
-                .toUri();
-
-        String safeUrl = uri.toString()
-                .replace(props.getAppId(), "****")
-                .replace(props.getAppKey(), "****");
-        log.info("Adzuna GET {}", safeUrl);
-
-        ResponseEntity<String> resp = http.get().uri(uri).retrieve().toEntity(String.class);
+        ResponseEntity<String> resp = http.get()
+                .uri(u -> {
+                    URI uri = u.pathSegment(country, "search", String.valueOf(adzunaPage))
+                            .queryParam("app_id", props.getAppId())
+                            .queryParam("app_key", props.getAppKey())
+                            .queryParam("results_per_page", perPage)
+                            .queryParam("what", query == null ? "" : query.trim())
+                            .queryParam("where", location == null ? "" : location.trim())
+                            .queryParam("sort_by", "date")
+                            .build();
+                    log.debug("Adzuna GET {}", AdzunaProperties.redact(uri.toString()));
+                    return uri;
+                })
+                .retrieve()
+                .toEntity(String.class);
         int status = resp.getStatusCode().value();
-        log.info("Adzuna status {}", status);
+        log.debug("Adzuna status {}", status);
 
         if (status < 200 || status >= 300 || resp.getBody() == null) {
             log.warn("Adzuna non-2xx: {}", status);
@@ -116,12 +127,9 @@ public class AdzunaFacade {
         catch (Exception e) { return null; }
     }
 
-    private static WorkType deriveWorkType(String title, String loc) {
-        String t = (title == null ? "" : title).toLowerCase(Locale.ROOT);
-        String l = (loc == null ? "" : loc).toLowerCase(Locale.ROOT);
-        if (t.contains("remote") || l.contains("remote")) return WorkType.REMOTE;
-        if (t.contains("hybrid") || l.contains("hybrid")) return WorkType.HYBRID;
-        return WorkType.ONSITE;
+    private WorkType deriveWorkType(String title, String loc) {
+        WorkType wt = classifier.classify(title, loc).workType();
+        return wt == WorkType.UNKNOWN ? WorkType.ONSITE : wt;
     }
 
     @JsonIgnoreProperties(ignoreUnknown = true)
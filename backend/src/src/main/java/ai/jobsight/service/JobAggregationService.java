@@ -2,16 +2,24 @@ package ai.jobsight.service;
 
 import ai.jobsight.domain.JobPosting;
 import ai.jobsight.domain.enums.JobSource;
+import ai.jobsight.domain.query.CountMode;
 import ai.jobsight.domain.query.JobSearchQuery;
+import ai.jobsight.domain.query.KeysetCursor;
+import ai.jobsight.dto.CursorPage;
 import ai.jobsight.dto.JobPostingDTO;
 import ai.jobsight.dto.PagedResponse;
+import ai.jobsight.ingest.HarvestLedger;
 import ai.jobsight.mapper.JobPostingMapper;
-import ai.jobsight.providers.ProviderRegistry;
+import ai.jobsight.providers.ProviderFanOut;
+import ai.jobsight.repo.JobListingReader;
+import ai.jobsight.repo.JobPostingBulkWriter;
 import ai.jobsight.repo.JobPostingRepository;
+import ai.jobsight.stats.IngestionWatermark;
+import ai.jobsight.stats.SkillStatsEngine;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -23,20 +31,62 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class JobAggregationService {
-    private final ProviderRegistry registry;
+    private final ProviderFanOut fanOut;
     private final JobPostingRepository repo;
+    private final JobListingReader listing;
+    private final JobPostingBulkWriter writer;
+    private final HarvestLedger harvested;
+    private final SkillStatsEngine skillStats;
+    private final IngestionWatermark watermark;
+    private final MeterRegistry meters;
 
-    @Transactional
+    @Value("${listing.count-cap:1000}")
+    private int countCap;
+
+    // Not transactional: the fan-out must not pin a DB connection; the writer has its own transaction
     public PagedResponse<JobPostingDTO> searchAndStore(JobSearchQuery q) {
-        List<JobPosting> collected = new ArrayList<>();
+        // Background ingestion already covered this page recently: serve it from the table
+        if (harvested.isWarm(q)) return list(q, ProviderFanOut.Result.EMPTY);
+
+        ProviderFanOut.Result fetched = fetchAndStore(q);
+        return list(q, fetched);
+    }
+
+    /**
+     * Keyset listing by recency: no OFFSET scan, and totals are counted once (optionally capped) on the first page.
+     * Only the first page triggers a provider fetch; later pages read the local table.
+     */
+    public CursorPage<JobPostingDTO> scroll(JobSearchQuery q, KeysetCursor after, CountMode countMode) {
+        boolean first = KeysetCursor.START.equals(after);
+        ProviderFanOut.Result fetched = first && !harvested.isWarm(q) ? fetchAndStore(q) : ProviderFanOut.Result.EMPTY;
+
+        int size = Optional.ofNullable(q.size()).orElse(20);
+        List<JobPostingDTO> rows = listing.searchAfter(q.title(), q.location(), after, size + 1);
+        String next = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            JobPostingDTO last = rows.get(size - 1);
+            next = new KeysetCursor(last.getPostedAt(), last.getId()).encode();
+        }
+
+        Long total = null;
+        boolean capped = false;
+        CountMode mode = countMode == null ? CountMode.CAPPED : countMode;
+        if (first && mode != CountMode.NONE) {
+            Integer cap = mode == CountMode.CAPPED ? countCap : null;
+            total = repo.countDated(q.title(), q.location(), cap); // same rows the keyset pages reach
+            capped = cap != null && total > cap; // exactly cap matches is still an exact count
+            if (capped) total = (long) cap;
+        }
+
+        return new CursorPage<>(rows, next, total, capped, unavailable(fetched));
+    }
 
-        registry.all().forEach(p -> {
-            try {
-                collected.addAll(p.search(q));
-            } catch (Exception e) {
-                // Log and continue; resilience annotations already retry/CB.
-            }
-        });
+    /** Pulls one page from every provider and stores new postings; also used by background ingestion. */
+    public ProviderFanOut.Result fetchAndStore(JobSearchQuery q) {
+        // Providers run concurrently under one deadline; late/failed ones are reported, not fatal
+        ProviderFanOut.Result fetched = fanOut.search(q);
+        List<JobPosting> collected = fetched.postings();
 
         // Deduplicate by (provider, providerId)
         Map<String, JobPosting> unique = collected.stream()
@@ -46,24 +96,34 @@ public class JobAggregationService {
                         (a,b) -> a
                 ));
 
-        // Upsert new items (we only insert new ones to keep it simple)
-        unique.values().forEach(j -> {
-            if (!repo.existsByProviderAndProviderId(j.getProvider(), j.getProviderId())) {
-                repo.save(j);
-            }
-        });
-
-        // Query DB for paged results (consistent paging)
-        Pageable pageable = PageRequest.of(Optional.ofNullable(q.page()).orElse(0),
-                Optional.ofNullable(q.size()).orElse(20),
-                Sort.by(Sort.Direction.DESC, "postedAt"));
-        Page<JobPosting> page = repo.findByTitleContainingIgnoreCaseAndLocationContainingIgnoreCase(
-                Optional.ofNullable(q.title()).orElse(""),
-                Optional.ofNullable(q.location()).orElse(""),
-                pageable
-        );
-
-        List<JobPostingDTO> dtos = page.stream().map(JobPostingMapper::toDto).toList();
-        return new PagedResponse<>(dtos, page.getTotalElements(), page.getNumber(), page.getSize());
+        // Insert new items in bulk (existing ones are left as-is); only new postings feed the skill sketches
+        var inserted = meters.timer("jobsight.ingest.upsert").record(() -> writer.upsert(unique.values()));
+        meters.counter("jobsight.ingest.postings", "stage", "fetched").increment(collected.size());
+        meters.counter("jobsight.ingest.postings", "stage", "duplicate").increment(collected.size() - unique.size());
+        meters.counter("jobsight.ingest.postings", "stage", "inserted").increment(inserted.size());
+        skillStats.record(inserted);
+        watermark.advance(inserted);
+        return fetched;
+    }
+
+    private PagedResponse<JobPostingDTO> list(JobSearchQuery q, ProviderFanOut.Result fetched) {
+        // Query DB for paged results (consistent paging); ranked full-text on title, newest first otherwise.
+        // Projection + one batched skills query: no per-row job_skills selects, no description column.
+        int page = Optional.ofNullable(q.page()).orElse(0);
+        int size = Optional.ofNullable(q.size()).orElse(20);
+        List<JobPostingDTO> dtos = listing.searchText(q.title(), q.location(), page, size);
+        long total = repo.countText(q.title(), q.location(), null);
+        return new PagedResponse<>(dtos, total, page, size, unavailable(fetched));
+    }
+
+    /** Detail view: full entity graph (skills, description). */
+    public Optional<JobPostingDTO> byId(Long id) {
+        return repo.findById(id).map(JobPostingMapper::toDetailDto);
+    }
+
+    private static Map<String, String> unavailable(ProviderFanOut.Result fetched) {
+        Map<String, String> out = new LinkedHashMap<>();
+        fetched.unavailable().forEach((name, outcome) -> out.put(name, outcome.name()));
+        return out;
     }
 }
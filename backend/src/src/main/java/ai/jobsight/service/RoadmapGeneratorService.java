@@ -1,54 +1,42 @@
 package ai.jobsight.service;
 
 import ai.jobsight.dto.PreciseRoadmapRequest;
+import ai.jobsight.llm.OllamaClient;
+import ai.jobsight.providers.cache.SingleFlight;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.MediaType;
-import org.springframework.http.RequestEntity;
-import org.springframework.http.ResponseEntity;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.net.URI;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 public class RoadmapGeneratorService {
 
-    private final RestTemplate llm; // plain RestTemplate
-    private final String model;
-
-    public RoadmapGeneratorService(
-            @Qualifier("llmTemplate") RestTemplate llm,
-            @Value("${ollama.model:llama3.2:3b}") String model
-    ) {
-        this.llm = llm;
-        this.model = model;
-    }
-
-    public Map<String, Object> buildPrecisePlan(PreciseRoadmapRequest req) {
-        String prompt = """
+    /**
+     * Identical for every request and sent as Ollama's system prompt, so its evaluation is reused;
+     * everything request-specific lives in {@link #prompt}.
+     */
+    static final String SYSTEM_PROMPT = """
     You are an expert career coach. Build a concise month-by-month learning ROADMAP only in plain text (no Markdown).
-
-    INPUT
-    - Target role: %s
-    - Current skills (comma-separated, may be empty): %s
-    - Timeline (months): %s
-    - Country (for examples/resources): %s
+    The user message gives the target role, current skills, timeline in months (N) and country.
 
     GUIDELINES
     - Assume beginner if skills are empty; otherwise tailor to listed skills.
-    - Keep total months = %s.
+    - Keep total months = N.
     - Emphasize practical learning and a project every month.
     - Keep language compact. 5–8 short bullets per month max.
     - Include 1–3 reputable resources per month (free if possible, add URLs).
-    - Use local context when relevant (%s), but keep resources broadly accessible.
+    - Use local context of the given country when relevant, but keep resources broadly accessible.
 
     FORMAT (exactly this structure in plain text, no extra prose before/after)
-    Title: %s Roadmap (%s months)
+    Title: <Target role> Roadmap (N months)
 
     Prerequisites:
     - (up to 5 bullets tailored to the user)
@@ -58,7 +46,7 @@ public class RoadmapGeneratorService {
     - Study: 2–3 bullets
     - Project: one-line title + 2–3 bullet outline
     - Resources: name — URL; name — URL
-    - Time split: ~X%% theory / Y%% practice
+    - Time split: ~X% theory / Y% practice
 
     Month 2 — THEME
     - Skills: ...
@@ -67,7 +55,7 @@ public class RoadmapGeneratorService {
     - Resources: ...
     - Time split: ...
 
-    ... (continue up to Month %s)
+    ... (continue up to Month N)
 
     Capstone:
     - One-line title
@@ -80,52 +68,116 @@ public class RoadmapGeneratorService {
     Metrics to Track:
     - 4–6 bullets (e.g., weekly hours, #projects, #applications, etc.)
 
-    Next Steps after %s:
+    Next Steps after N months:
     - 3–5 bullets (advancement paths, specialization ideas)
-    
-    Return ONLY valid minified JSON.
-    """.formatted(
-                nz(req.getTargetRole()),
-                nz(req.getCurrentSkills()),
-                nz(req.getTimelineMonths()),
-                nz(req.getCountry()),
-                nz(req.getTimelineMonths()),
-                nz(req.getCountry()),
-                nz(req.getTargetRole()),
-                nz(req.getTimelineMonths()),
-                nz(req.getTimelineMonths()),
-                nz(req.getTimelineMonths())
-        );
 
+    Return ONLY valid minified JSON.
+    """;
 
-        Map<String, Object> payload = new HashMap<>();
+    private static final Map<String, Object> OPTIONS = Map.of(
+            "num_predict", 500,
+            "temperature", 0.4,
+            "repeat_penalty", 1.1
+    );
 
-        payload.put("model", model);
-        payload.put("prompt", prompt);
-        payload.put("stream", false);
+    private final OllamaClient ollama;
+    private final RoadmapPlanCache cache;
+    private final SingleFlight singleFlight;
+    private final boolean warmUp;
 
-        payload.put("options", Map.of(
-                "num_predict", 500,
-                "temperature", 0.4,
-                "repeat_penalty", 1.1
-        ));
+    public RoadmapGeneratorService(
+            OllamaClient ollama,
+            RoadmapPlanCache cache,
+            SingleFlight singleFlight,
+            @Value("${ollama.warm-up:true}") boolean warmUp
+    ) {
+        this.ollama = ollama;
+        this.cache = cache;
+        this.singleFlight = singleFlight;
+        this.warmUp = warmUp;
+    }
 
+    public Map<String, Object> buildPrecisePlan(PreciseRoadmapRequest req) {
+        RoadmapPlanCache.Key key = cache.key(req, ollama.model());
+        var cached = cache.get(key);
+        if (cached.isPresent()) return result(cached.get(), null, true);
         try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> resp = llm.postForObject("/api/generate", payload, Map.class);
-            String text = String.valueOf(resp == null ? "" : resp.getOrDefault("response", ""));
+            // identical requests arriving together share one generation
+            OllamaClient.Generation g = singleFlight.execute("roadmap:" + key.hash(), () -> {
+                OllamaClient.Generation gen = ollama.generate(SYSTEM_PROMPT, prompt(req), OPTIONS);
+                cache.put(key, ollama.model(), gen.text());
+                return gen;
+            });
+            return result(g.text(), g.timings(), false);
+
+        } catch (Exception e) {
+            log.error("Ollama call failed (model={})", ollama.model(), e);
+            throw new RuntimeException("Failed (model=" + ollama.model() + "): " + e.getMessage(), e);
+        }
+    }
 
-            Map<String, Object> out = new HashMap<>();
-            out.put("model", model);
-            out.put("plan", text);
-            return out;
+    /**
+     * Same plan as {@link #buildPrecisePlan}, but relayed chunk by chunk from Ollama's NDJSON stream.
+     * Returns the assembled result once Ollama reports done; if {@code cancelled} turns true
+     * (client went away) the upstream connection is dropped, which stops generation on the Ollama side.
+     */
+    public Map<String, Object> streamPrecisePlan(PreciseRoadmapRequest req, Consumer<String> onChunk, BooleanSupplier cancelled) {
+        RoadmapPlanCache.Key key = cache.key(req, ollama.model());
+        var cached = cache.get(key);
+        if (cached.isPresent()) {
+            onChunk.accept(cached.get()); // whole plan as a single chunk
+            return result(cached.get(), null, true);
+        }
+        try {
+            OllamaClient.Generation g = ollama.stream(SYSTEM_PROMPT, prompt(req), OPTIONS, onChunk, cancelled);
+            cache.put(key, ollama.model(), g.text());
+            return result(g.text(), g.timings(), false);
 
         } catch (Exception e) {
-            log.error("Ollama call failed (model={})", model, e);
-            throw new RuntimeException("Failed (model=" + model + "): " + e.getMessage(), e);
+            if (cancelled.getAsBoolean()) throw new CancellationException("Client disconnected");
+            log.error("Ollama stream failed (model={})", ollama.model(), e);
+            throw new RuntimeException("Failed (model=" + ollama.model() + "): " + e.getMessage(), e);
         }
     }
 
+    /** Loads the model and evaluates the shared system prompt before the first user asks. */
+    @EventListener(ApplicationReadyEvent.class)
+    void warmUpOnStartup() {
+        if (!warmUp) return;
+        Thread.ofVirtual().name("ollama-warm-up").start(() -> {
+            try {
+                var t = ollama.warmUp(SYSTEM_PROMPT);
+                log.info("Ollama model {} warm (load {} ms, system prompt {} tokens in {} ms)",
+                        ollama.model(), t == null ? -1 : t.loadMs(), t == null ? -1 : t.promptTokens(), t == null ? -1 : t.promptEvalMs());
+            } catch (Exception e) {
+                log.warn("Ollama warm-up failed (model={}): {}", ollama.model(), e.toString());
+            }
+        });
+    }
+
+    private Map<String, Object> result(String text, OllamaClient.Timings timings, boolean cached) {
+        Map<String, Object> out = new HashMap<>();
+        out.put("model", ollama.model());
+        out.put("plan", text == null ? "" : text);
+        out.put("cached", cached);
+        if (timings != null) out.put("timings", timings);
+        return out;
+    }
+
+    private static String prompt(PreciseRoadmapRequest req) {
+        return """
+    INPUT
+    - Target role: %s
+    - Current skills (comma-separated, may be empty): %s
+    - Timeline (months): %s
+    - Country (for examples/resources): %s
+    """.formatted(
+                nz(req.getTargetRole()),
+                nz(req.getCurrentSkills()),
+                nz(req.getTimelineMonths()),
+                nz(req.getCountry())
+        );
+    }
 
     private static String nz(Object v) { return v == null ? "-" : String.valueOf(v); }
 }
@@ -0,0 +1,140 @@
+package ai.jobsight.service;
+
+import ai.jobsight.dto.PreciseRoadmapRequest;
+import ai.jobsight.repo.CachedRoadmapRepo;
+import ai.jobsight.save.CachedRoadmap;
+import ai.jobsight.text.TextClassifier;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Generated precise-roadmap text keyed by the canonical request: the fields that reach the prompt
+ * (role, skills, months, country) normalized, plus the model.
+ * Caffeine (size + TTL) in front of the cached_roadmap table, which a scheduled job trims to the same TTL and a row cap.
+ * Storage failures are logged and cost a regeneration, never the request.
+ */
+@Slf4j
+@Component
+public class RoadmapPlanCache {
+
+    public record Key(String canonical, String hash) {}
+
+    private static final Pattern MONTHS = Pattern.compile("0*(\\d{1,3})(\\s*months?)?");
+
+    private final CachedRoadmapRepo repo;
+    private final TextClassifier classifier;
+    private final Duration ttl;
+    private final int maxRows;
+    private final Cache<String, String> memory;
+
+    public RoadmapPlanCache(
+            CachedRoadmapRepo repo,
+            TextClassifier classifier,
+            @Value("${roadmap.cache.ttl:7d}") Duration ttl,
+            @Value("${roadmap.cache.max-size:500}") long maxSize,
+            @Value("${roadmap.cache.max-rows:20000}") int maxRows
+    ) {
+        this.repo = repo;
+        this.classifier = classifier;
+        this.ttl = ttl;
+        this.maxRows = maxRows;
+        this.memory = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /** e.g. "java backend engineer|docker,postgresql|3|pl|llama3.2:3b" */
+    public Key key(PreciseRoadmapRequest req, String model) {
+        String skills = req.getCurrentSkills() == null ? "" : Arrays.stream(req.getCurrentSkills().split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(classifier::canonicalSkill)
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+        String canonical = String.join("|",
+                norm(req.getTargetRole()), skills, months(req.getTimelineMonths()), norm(req.getCountry()), model);
+        return new Key(canonical, sha256(canonical));
+    }
+
+    public Optional<String> get(Key key) {
+        String hit = memory.getIfPresent(key.hash());
+        if (hit != null) return Optional.of(hit);
+        try {
+            Instant cutoff = Instant.now().minus(ttl);
+            return repo.findById(key.hash())
+                    .filter(r -> r.getCreatedAt().isAfter(cutoff) && key.canonical().equals(r.getCanonicalRequest()))
+                    .map(r -> {
+                        memory.put(key.hash(), r.getPlanText());
+                        return r.getPlanText();
+                    });
+        } catch (Exception e) {
+            log.warn("Roadmap cache lookup failed: {}", e.toString());
+            return Optional.empty();
+        }
+    }
+
+    public void put(Key key, String model, String plan) {
+        if (plan == null || plan.isBlank()) return; // never cache an empty generation
+        memory.put(key.hash(), plan);
+        try {
+            repo.save(CachedRoadmap.builder()
+                    .requestKey(key.hash())
+                    .canonicalRequest(key.canonical())
+                    .model(model)
+                    .planText(plan)
+                    .createdAt(Instant.now())
+                    .build());
+        } catch (Exception e) {
+            log.warn("Roadmap cache write failed: {}", e.toString());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${roadmap.cache.purge-interval:1h}", initialDelayString = "${roadmap.cache.purge-interval:1h}")
+    void purge() {
+        try {
+            int expired = repo.deleteOlderThan(Instant.now().minus(ttl));
+            int trimmed = repo.trimTo(maxRows);
+            if (expired + trimmed > 0) log.info("Roadmap cache purged {} expired and {} excess rows", expired, trimmed);
+        } catch (Exception e) {
+            log.warn("Roadmap cache purge failed: {}", e.toString());
+        }
+    }
+
+    private static String norm(String s) {
+        return s == null ? "" : s.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /** "3", "03" and "3 months" are the same timeline. */
+    private static String months(String s) {
+        String n = norm(s);
+        Matcher m = MONTHS.matcher(n);
+        return m.matches() ? m.group(1) : n;
+    }
+
+    private static String sha256(String s) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(s.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
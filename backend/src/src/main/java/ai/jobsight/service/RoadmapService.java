@@ -3,7 +3,6 @@ package ai.jobsight.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,14 +20,9 @@ public class RoadmapService {
 
     public Roadmap buildFromSkills(List<String> skills, String roleId) {
         var role = templates.byId(roleId).orElseGet(() -> templates.all().get(0));
-        var have = skills == null ? Set.<String>of() :
-                skills.stream().map(s -> s.toLowerCase().trim()).collect(Collectors.toSet());
-
-        var present = role.getTargetSkills().stream()
-                .filter(s -> have.contains(s.toLowerCase())).toList();
-
-        var missing = role.getTargetSkills().stream()
-                .filter(s -> !have.contains(s.toLowerCase())).toList();
+        var present = new ArrayList<String>();
+        var missing = new ArrayList<String>();
+        RoleRecommender.split(role, templates.encode(skills), present, missing);
 
         var learning = new ArrayList<Learning>();
         for (var m : missing) {
@@ -1,9 +1,28 @@
 package ai.jobsight.service;
 
+import ai.jobsight.text.TextClassifier;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 
+/**
+ * Role catalog, loaded once from roles.catalog (JSON).
+ * Every distinct target skill (canonicalized through {@link TextClassifier}, so "k8s" and "kubernetes" are one skill)
+ * gets a bit; each role carries its target skills as a bitset, and user skills are encoded the same way,
+ * so matching a user against a role is an AND + popcount over a few longs.
+ */
+@Slf4j
 @Component
 public class RoadmapTemplates {
 
@@ -13,54 +32,95 @@ public class RoadmapTemplates {
         private String title;
         private List<String> targetSkills;
         private List<Project> projects;
+        @JsonIgnore private int[] skillBits;     // bit of targetSkills[i]
+        @JsonIgnore private long[] skillWords;   // all target skills as a bitset
     }
-    @Getter @AllArgsConstructor
+    @Getter @AllArgsConstructor @NoArgsConstructor
     public static class Project {
         private String title;
         private String desc;
     }
 
-    private final List<RoleTemplate> roles = List.of(
-            new RoleTemplate(
-                    "java-backend", "Java Backend Engineer",
-                    List.of("java","spring","spring boot","rest","postgresql","docker","ci/cd","hibernate"),
-                    List.of(
-                            new Project("Job Board API","CRUD + filtering, JWT auth, Postgres, Docker compose"),
-                            new Project("Resume Analyzer Service","FastAPI + Java gateway, file uploads, rate limiting"),
-                            new Project("CI/CD Pipeline","GitHub Actions build/test, push images, deploy with compose")
-                    )
-            ),
-            new RoleTemplate(
-                    "react-frontend","React Frontend Developer",
-                    List.of("javascript","react","vite","tailwind","rest","testing"),
-                    List.of(
-                            new Project("JobSight UI","Dashboard, results, charts, API integration"),
-                            new Project("Design System","Buttons, inputs, cards as a reusable lib"),
-                            new Project("E2E Tests","Playwright basic flows")
-                    )
-            ),
-            new RoleTemplate(
-                    "devops","DevOps Engineer",
-                    List.of("linux","bash","docker","k8s","terraform","ci/cd","monitoring"),
-                    List.of(
-                            new Project("Observability Stack","Prometheus + Grafana for JobSight"),
-                            new Project("K8s Manifests","Deploy backend + analyzer + ingress"),
-                            new Project("Infra as Code","Terraform VPC + DB module")
-                    )
-            ),
-            new RoleTemplate(
-                    "data-analyst","Data Analyst",
-                    List.of("sql","excel","python","pandas","visualization"),
-                    List.of(
-                            new Project("Salary Insights","Scrape salaries, clean in pandas, publish a report"),
-                            new Project("Skill Trends","Analyze skill frequency over time"),
-                            new Project("Interactive Dashboard","Streamlit app with filters")
-                    )
-            )
-    );
+    private record CatalogFile(List<RoleSpec> roles) {}
+    private record RoleSpec(String id, String title, List<String> targetSkills, List<Project> projects) {}
+
+    private final TextClassifier classifier;
+    private final List<RoleTemplate> roles;
+    private final Map<String, RoleTemplate> byId = new HashMap<>();
+    private final Map<String, Integer> skillIndex = new HashMap<>();
+    private final String version;
+
+    public RoadmapTemplates(
+            TextClassifier classifier,
+            ObjectMapper mapper,
+            @Value("${roles.catalog:classpath:roles/catalog.json}") Resource catalog
+    ) {
+        this.classifier = classifier;
+        CatalogFile file;
+        try (InputStream in = catalog.getInputStream()) {
+            byte[] bytes = in.readAllBytes();
+            file = mapper.readValue(bytes, CatalogFile.class);
+            this.version = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read role catalog " + catalog, e);
+        }
+        if (file.roles() == null || file.roles().isEmpty()) {
+            throw new IllegalStateException("Role catalog " + catalog + " has no roles");
+        }
+
+        List<RoleTemplate> list = new ArrayList<>(file.roles().size());
+        for (RoleSpec spec : file.roles()) {
+            List<String> skills = spec.targetSkills() == null ? List.of() : List.copyOf(spec.targetSkills());
+            int[] bits = new int[skills.size()];
+            BitSet set = new BitSet();
+            for (int i = 0; i < skills.size(); i++) {
+                bits[i] = skillIndex.computeIfAbsent(classifier.canonicalSkill(skills.get(i)), k -> skillIndex.size());
+                set.set(bits[i]);
+            }
+            var role = new RoleTemplate(spec.id(), spec.title(), skills,
+                    spec.projects() == null ? List.of() : List.copyOf(spec.projects()), bits, set.toLongArray());
+            if (byId.putIfAbsent(role.getId(), role) != null) {
+                throw new IllegalStateException("Duplicate role id in catalog: " + role.getId());
+            }
+            list.add(role);
+        }
+        this.roles = List.copyOf(list);
+        log.info("Role catalog {} loaded: {} roles over {} skills", version, roles.size(), skillIndex.size());
+    }
 
     public List<RoleTemplate> all() { return roles; }
     public Optional<RoleTemplate> byId(String id) {
-        return roles.stream().filter(r -> r.getId().equals(id)).findFirst();
+        return Optional.ofNullable(id == null ? null : byId.get(id));
+    }
+
+    /** Content hash of the catalog file; changes whenever the catalog does. */
+    public String version() { return version; }
+
+    /** User skills as a bitset over the catalog's skill dictionary; skills no role asks for are dropped. */
+    public long[] encode(Collection<String> skills) {
+        BitSet set = new BitSet();
+        if (skills != null) {
+            for (String s : skills) {
+                if (s == null) continue;
+                Integer bit = skillIndex.get(classifier.canonicalSkill(s));
+                if (bit != null) set.set(bit);
+            }
+        }
+        return set.toLongArray();
+    }
+
+    /** Number of the role's target skills present in {@code user}. */
+    public static int matched(RoleTemplate role, long[] user) {
+        long[] r = role.getSkillWords();
+        int n = 0;
+        for (int i = 0, len = Math.min(r.length, user.length); i < len; i++) n += Long.bitCount(r[i] & user[i]);
+        return n;
+    }
+
+    public static boolean has(long[] user, int bit) {
+        int word = bit >>> 6;
+        return word < user.length && (user[word] & (1L << bit)) != 0;
     }
 }
@@ -0,0 +1,65 @@
+package ai.jobsight.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Ranks every catalog role against a user's skills: one bitset AND + popcount per role,
+ * present/missing lists only for the roles returned.
+ */
+@Service
+@RequiredArgsConstructor
+public class RoleRecommender {
+
+    public record RoleMatch(String roleId, String title, double coverage, int matched, int total,
+                            List<String> present, List<String> missing) {}
+
+    private final RoadmapTemplates templates;
+
+    /** Best coverage (matched / target skills) first; ties go to the role with more matched skills. */
+    public List<RoleMatch> recommend(Collection<String> skills, int limit) {
+        long[] user = templates.encode(skills);
+        List<RoadmapTemplates.RoleTemplate> roles = templates.all();
+        int n = roles.size();
+        int[] matched = new int[n];
+        int[] total = new int[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            var role = roles.get(i);
+            matched[i] = RoadmapTemplates.matched(role, user);
+            for (long w : role.getSkillWords()) total[i] += Long.bitCount(w);
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator
+                .<Integer>comparingDouble(i -> -coverage(matched[i], total[i]))
+                .thenComparingInt(i -> -matched[i]));
+
+        int k = Math.min(Math.max(limit, 1), n);
+        List<RoleMatch> out = new ArrayList<>(k);
+        for (int j = 0; j < k; j++) {
+            int i = order[j];
+            var role = roles.get(i);
+            List<String> present = new ArrayList<>();
+            List<String> missing = new ArrayList<>();
+            split(role, user, present, missing);
+            out.add(new RoleMatch(role.getId(), role.getTitle(), coverage(matched[i], total[i]),
+                    matched[i], total[i], present, missing));
+        }
+        return out;
+    }
+
+    /** Target skills of {@code role} split into those the user has and those missing, in catalog order. */
+    static void split(RoadmapTemplates.RoleTemplate role, long[] user, List<String> present, List<String> missing) {
+        int[] bits = role.getSkillBits();
+        List<String> names = role.getTargetSkills();
+        for (int i = 0; i < bits.length; i++) {
+            (RoadmapTemplates.has(user, bits[i]) ? present : missing).add(names.get(i));
+        }
+    }
+
+    private static double coverage(int matched, int total) {
+        return total == 0 ? 0 : (double) matched / total;
+    }
+}
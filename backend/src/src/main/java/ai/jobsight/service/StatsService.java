@@ -2,40 +2,79 @@ package ai.jobsight.service;
 
 import ai.jobsight.dto.SkillStatDTO;
 import ai.jobsight.repo.JobPostingRepository;
+import ai.jobsight.stats.IngestionWatermark;
+import ai.jobsight.stats.SkillStatsEngine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.function.Supplier;
 
-/** Simple skill-frequency stats over current snapshot. */
+/** Skill-frequency stats: answered from the in-memory sketches when possible, else aggregated in SQL. */
 @Service
+@RequiredArgsConstructor
 public class StatsService {
     @PersistenceContext
     private EntityManager em;
 
+    private final SkillStatsEngine engine;
+    private final IngestionWatermark watermark;
+    private final MeterRegistry meters;
+
+    /**
+     * Top skills with the source picked up front, so a version can be derived before anything is computed.
+     * SQL answers depend only on the table (version: highest posting id) and are the same on every instance;
+     * sketch answers are per instance ({@code perInstance}) and carry their bucket's version.
+     */
+    public record Plan(String version, boolean perInstance, Supplier<List<SkillStatDTO>> body) {}
+
     public List<SkillStatDTO> topSkills(String title, String location, int limit) {
-        // Using JPQL/SQL would be fine; here we use native for speed & set aggregation
+        return plan(title, location, limit).body().get();
+    }
+
+    public Plan plan(String title, String location, int limit) {
+        var fromSketch = engine.topSkills(title, location, limit);
+        if (fromSketch.isPresent()) {
+            var answer = fromSketch.get();
+            return new Plan(answer.version(), true, () -> timed("sketch", answer.top()));
+        }
+        return new Plan("skills-" + watermark.current(), false, () -> timed("sql", () -> aggregate(title, location, limit)));
+    }
+
+    private List<SkillStatDTO> timed(String source, Supplier<List<SkillStatDTO>> body) {
+        Timer.Sample sample = Timer.start(meters);
+        List<SkillStatDTO> result = body.get();
+        sample.stop(meters.timer("jobsight.stats.top-skills", "source", source));
+        return result;
+    }
+
+    private List<SkillStatDTO> aggregate(String title, String location, int limit) {
+        // Same indexed text filter as the job listing (tsvector + pg_trgm), no leading-wildcard scans
         String sql = """
         select s.skill as skill, count(*) as cnt
         from job_postings j
         join job_skills s on s.job_id = j.id
-        where lower(j.title) like lower(concat('%', :title, '%'))
-          and lower(j.location) like lower(concat('%', :loc, '%'))
+        where %s
         group by s.skill
-        order by cnt desc
+        order by cnt desc, s.skill
         limit :lim
-        """;
+        """.formatted(JobPostingRepository.TEXT_FILTER);
         var q = em.createNativeQuery(sql)
-                .setParameter("title", title == null ? "" : title)
-                .setParameter("loc", location == null ? "" : location)
+                .setParameter("q", JobPostingRepository.term(title))
+                .setParameter("qLike", JobPostingRepository.likePattern(title))
+                .setParameter("loc", JobPostingRepository.term(location))
+                .setParameter("locLike", JobPostingRepository.likePattern(location))
                 .setParameter("lim", limit);
 
         @SuppressWarnings("unchecked")
         List<Object[]> rows = q.getResultList();
 
         return rows.stream()
-                .map(r -> new SkillStatDTO((String) r[0], ((Number) r[1]).longValue()))
+                .map(r -> new SkillStatDTO((String) r[0], ((Number) r[1]).longValue(), false))
                 .toList();
     }
 }
@@ -0,0 +1,53 @@
+package ai.jobsight.stats;
+
+import ai.jobsight.repo.JobPostingBulkWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Highest job posting id, i.e. a version number for anything derived from the postings table
+ * (postings are only ever inserted). Advanced in-process by ingestion after commit, and re-read
+ * with max(id) at most once per stats.etag.refresh so inserts made by other instances show up too.
+ */
+@Component
+public class IngestionWatermark {
+
+    private final JdbcTemplate jdbc;
+    private final long refreshNanos;
+
+    private volatile long value = -1;
+    private volatile long readAt;
+
+    public IngestionWatermark(
+            JdbcTemplate jdbc,
+            @Value("${stats.etag.refresh:10s}") Duration refresh
+    ) {
+        this.jdbc = jdbc;
+        this.refreshNanos = refresh.toNanos();
+    }
+
+    public long current() {
+        long now = System.nanoTime();
+        if (value < 0 || now - readAt > refreshNanos) {
+            Long max = jdbc.queryForObject("select coalesce(max(id), 0) from job_postings", Long.class);
+            advance(max == null ? 0 : max);
+            readAt = now;
+        }
+        return value;
+    }
+
+    /** Called with postings that were actually inserted (after commit). */
+    public void advance(List<JobPostingBulkWriter.Inserted> inserted) {
+        long max = -1;
+        for (var i : inserted) max = Math.max(max, i.id());
+        if (max >= 0) advance(max);
+    }
+
+    private synchronized void advance(long id) {
+        if (id > value) value = id;
+    }
+}
@@ -0,0 +1,410 @@
+package ai.jobsight.stats;
+
+import ai.jobsight.domain.JobPosting;
+import ai.jobsight.dto.SkillStatDTO;
+import ai.jobsight.ingest.IngestionProperties;
+import ai.jobsight.repo.JobPostingBulkWriter;
+import ai.jobsight.repo.JobPostingRepository;
+import ai.jobsight.repo.SavedSearchRepo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * In-memory top-k skill statistics for popular (title, location) queries, e.g. ("java developer", "warsaw")
+ * or ("", "") for everything. A bucket contains exactly the postings {@link JobPostingRepository#TEXT_FILTER}
+ * matches for its query: it is filled with the same aggregate as the SQL path, and inserted postings are
+ * matched against every tracked query with that predicate in one statement per batch, so a promoted bucket
+ * answers the same as SQL. Each bucket is a {@link SpaceSaving} sketch seeded with the exact top counts, so
+ * memory is bounded by max-buckets x capacity; counts become upper bounds once a counter has been replaced
+ * (flagged as estimated).
+ * Which queries get one of the max-buckets slots is decided by heat, not arrival order: a second Space-Saving
+ * sketch counts candidate queries (title/location word n-grams of each posting, query-weight per query that
+ * missed, plus popular saved searches and configured ingestion queries as seeds). The startup rebuild first
+ * ranks candidates, then fills the hottest; every rebalance-interval the heat decays, cold buckets are demoted
+ * and hot queries promoted, and new buckets are filled from the table before they answer.
+ * Queries it cannot answer (not ready, unknown/warming bucket, limit above capacity) return empty so the
+ * caller can fall back to SQL.
+ */
+@Slf4j
+@Component
+public class SkillStatsEngine {
+
+    private static final int TITLE_NGRAMS = 3;
+    private static final int LOCATION_NGRAMS = 2;
+
+    /** Distinguishes this process's buckets in answer versions. */
+    private static final String INSTANCE = UUID.randomUUID().toString().substring(0, 8);
+
+    /** Candidate key for everything (empty title and location). */
+    private static final String ALL = key("", "");
+
+    private static final String FILL = """
+            select s.skill, count(*) as cnt
+            from job_postings j join job_skills s on s.job_id = j.id
+            where j.id <= :since and %s
+            group by s.skill
+            order by cnt desc, s.skill
+            limit :cap
+            """.formatted(JobPostingRepository.TEXT_FILTER);
+
+    private static final String MATCH = """
+            select b.k, s.skill
+            from unnest(?, ?, ?, ?, ?, ?) as b(k, q, q_like, loc, loc_like, since)
+            join job_postings j on j.id = any(?) and j.id > b.since and %s
+            join job_skills s on s.job_id = j.id
+            """.formatted(JobPostingRepository.textFilterOver("b"));
+
+    /** One tracked query; postings with id <= since are counted by the fill, later ones by {@link #record}. */
+    private static final class Bucket {
+        final String title, location;
+        final SpaceSaving sketch;
+        final long since;
+        final AtomicLong updates = new AtomicLong();
+        volatile boolean ready;
+
+        Bucket(String key, int capacity, long since) {
+            int sep = key.indexOf('\u0000');
+            this.title = key.substring(0, sep);
+            this.location = key.substring(sep + 1);
+            this.sketch = new SpaceSaving(capacity);
+            this.since = since;
+        }
+    }
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate named;
+    private final SavedSearchRepo savedSearches;
+    private final IngestionProperties ingestion;
+    private final boolean enabled;
+    private final int capacity;
+    private final int maxBuckets;
+    private final int queryWeight;
+    private final int maxPromotions;
+    private final SpaceSaving heat;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final ReentrantLock maintenance = new ReentrantLock();
+
+    private volatile boolean ready;
+
+    public SkillStatsEngine(
+            JdbcTemplate jdbc,
+            NamedParameterJdbcTemplate named,
+            SavedSearchRepo savedSearches,
+            IngestionProperties ingestion,
+            @Value("${stats.sketch.enabled:true}") boolean enabled,
+            @Value("${stats.sketch.capacity:50}") int capacity,
+            @Value("${stats.sketch.max-buckets:4000}") int maxBuckets,
+            @Value("${stats.sketch.key-heat-capacity:16000}") int heatCapacity,
+            @Value("${stats.sketch.query-weight:20}") int queryWeight,
+            @Value("${stats.sketch.max-promotions:500}") int maxPromotions
+    ) {
+        this.jdbc = jdbc;
+        this.named = named;
+        this.savedSearches = savedSearches;
+        this.ingestion = ingestion;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.maxBuckets = maxBuckets;
+        this.queryWeight = queryWeight;
+        this.maxPromotions = maxPromotions;
+        this.heat = new SpaceSaving(Math.max(heatCapacity, maxBuckets));
+    }
+
+    /**
+     * A ready bucket's answer to one query. Buckets are per instance, so {@code version} identifies this
+     * instance's bucket and changes whenever its counts do.
+     */
+    public record Answer(String version, Supplier<List<SkillStatDTO>> top) {}
+
+    public Optional<Answer> topSkills(String title, String location, int limit) {
+        if (!ready || limit > capacity) return Optional.empty();
+        String key = queryKey(title, location);
+        Bucket b = buckets.get(key);
+        if (b == null || !b.ready) {
+            heat.offer(key, queryWeight); // asked for but not served: candidate for promotion
+            return Optional.empty();
+        }
+        return Optional.of(new Answer("skills-s-" + INSTANCE + "-" + b.since + "-" + b.updates.get(),
+                () -> b.sketch.top(limit)));
+    }
+
+    /** Called with postings that were actually inserted (after commit). */
+    public void record(List<JobPostingBulkWriter.Inserted> inserted) {
+        if (!enabled) return;
+        List<Long> ids = new ArrayList<>();
+        for (var i : inserted) {
+            JobPosting p = i.posting();
+            for (String k : postingKeys(p.getTitle(), p.getLocation())) heat.offer(k);
+            if (p.getSkills() != null && !p.getSkills().isEmpty()) ids.add(i.id());
+        }
+        Map<String, Bucket> tracked = Map.copyOf(buckets);
+        if (ids.isEmpty() || tracked.isEmpty()) return;
+        try {
+            match(tracked, ids);
+        } catch (Exception e) {
+            // The buckets would silently drift from SQL; drop them and let the next rebalance refill
+            log.warn("Skill stats update failed; buckets dropped until the next rebalance", e);
+            tracked.forEach(buckets::remove);
+        }
+    }
+
+    /** Counts skills of the given postings into every tracked bucket whose query matches them. */
+    private void match(Map<String, Bucket> tracked, List<Long> ids) {
+        int n = tracked.size();
+        String[] k = new String[n], q = new String[n], qLike = new String[n], loc = new String[n], locLike = new String[n];
+        Long[] since = new Long[n];
+        int i = 0;
+        for (var e : tracked.entrySet()) {
+            Bucket b = e.getValue();
+            k[i] = e.getKey();
+            q[i] = JobPostingRepository.term(b.title);
+            qLike[i] = JobPostingRepository.likePattern(b.title);
+            loc[i] = JobPostingRepository.term(b.location);
+            locLike[i] = JobPostingRepository.likePattern(b.location);
+            since[i] = b.since;
+            i++;
+        }
+        jdbc.query(MATCH, ps -> {
+            Connection con = ps.getConnection();
+            ps.setArray(1, con.createArrayOf("text", k));
+            ps.setArray(2, con.createArrayOf("text", q));
+            ps.setArray(3, con.createArrayOf("text", qLike));
+            ps.setArray(4, con.createArrayOf("text", loc));
+            ps.setArray(5, con.createArrayOf("text", locLike));
+            ps.setArray(6, con.createArrayOf("bigint", since));
+            ps.setArray(7, con.createArrayOf("bigint", ids.toArray(Long[]::new)));
+        }, rs -> {
+            String skill = rs.getString(2);
+            if (skill == null) return;
+            Bucket b = tracked.get(rs.getString(1));
+            b.sketch.offer(skill);
+            b.updates.incrementAndGet();
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void rebuildOnStartup() {
+        if (!enabled) return;
+        Thread.ofVirtual().name("skill-stats-rebuild").start(this::rebuild);
+    }
+
+    @Scheduled(fixedDelayString = "${stats.sketch.rebalance-interval:15m}",
+            initialDelayString = "${stats.sketch.rebalance-interval:15m}")
+    void rebalance() {
+        if (!enabled || !ready || !maintenance.tryLock()) return;
+        long started = System.nanoTime();
+        try {
+            heat.decay();
+            seed();
+            Set<String> wanted = new LinkedHashSet<>(hottest());
+            List<String> promote = new ArrayList<>();
+            for (String k : wanted) {
+                if (!buckets.containsKey(k)) promote.add(k);
+                if (promote.size() == maxPromotions) break;
+            }
+            if (promote.isEmpty()) return;
+
+            // Demote the coldest tracked buckets that fell out of the wanted set, only as far as needed
+            int excess = buckets.size() + promote.size() - maxBuckets;
+            if (excess > 0) {
+                List<String> cold = buckets.keySet().stream()
+                        .filter(k -> !k.equals(ALL) && !wanted.contains(k))
+                        .sorted(Comparator.comparingLong(heat::estimate))
+                        .limit(excess)
+                        .toList();
+                cold.forEach(buckets::remove);
+                if (cold.size() < excess) promote = promote.subList(0, Math.max(0, promote.size() - (excess - cold.size())));
+            }
+            if (promote.isEmpty()) return;
+
+            for (String k : promote) fill(k);
+            log.info("Skill stats rebalanced: {} buckets promoted in {} ms ({} tracked)",
+                    promote.size(), (System.nanoTime() - started) / 1_000_000, buckets.size());
+        } catch (Exception e) {
+            log.warn("Skill stats rebalance failed", e);
+        } finally {
+            maintenance.unlock();
+        }
+    }
+
+    private void rebuild() {
+        maintenance.lock();
+        long started = System.nanoTime();
+        try {
+            long since = maxId();
+            // Pass 1: rank candidate queries by how many postings they cover
+            long rows = scan("select j.title, j.location from job_postings j where j.id <= ?", since, rs -> {
+                for (String k : postingKeys(rs.getString(1), rs.getString(2))) heat.offer(k);
+            });
+            seed();
+
+            // Pass 2: fill only the admitted (hottest) queries; each answers as soon as it is filled
+            for (String k : hottest()) fill(k);
+            ready = true;
+            log.info("Skill stats rebuilt from {} rows into {} buckets in {} ms",
+                    rows, buckets.size(), (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("Skill stats rebuild failed; serving stats from SQL", e);
+        } finally {
+            maintenance.unlock();
+        }
+    }
+
+    /** Everything plus the hottest queries, up to max-buckets. */
+    private List<String> hottest() {
+        List<String> keys = new ArrayList<>(maxBuckets);
+        keys.add(ALL);
+        for (String k : heat.topItems(maxBuckets)) {
+            if (keys.size() == maxBuckets) break;
+            if (!k.equals(ALL)) keys.add(k);
+        }
+        return keys;
+    }
+
+    /** Queries we know users run: popular saved searches and configured ingestion targets. */
+    private void seed() {
+        try {
+            for (Object[] row : savedSearches.popularQueries(PageRequest.of(0, ingestion.getSavedSearchLimit()))) {
+                seed((String) row[0], (String) row[1]);
+            }
+        } catch (Exception e) {
+            log.debug("Saved-search seeds unavailable: {}", e.toString());
+        }
+        for (String kw : ingestion.getRoleKeywords()) seed(kw, ingestion.getDefaultLocation());
+        for (var q : ingestion.getQueries()) seed(q.getWhat(), q.getWhere());
+    }
+
+    private void seed(String title, String location) {
+        String key = queryKey(title, location);
+        if (!key.equals(ALL)) heat.offer(key, queryWeight);
+    }
+
+    /**
+     * Tracks {@code key} and seeds it with the exact top counts of the SQL aggregate over postings with id <= since;
+     * it is registered first, so {@link #record} counts everything inserted after since.
+     */
+    private void fill(String key) {
+        Bucket b = new Bucket(key, capacity, maxId());
+        buckets.put(key, b);
+        try {
+            named.query(FILL, new MapSqlParameterSource()
+                    .addValue("q", JobPostingRepository.term(b.title))
+                    .addValue("qLike", JobPostingRepository.likePattern(b.title))
+                    .addValue("loc", JobPostingRepository.term(b.location))
+                    .addValue("locLike", JobPostingRepository.likePattern(b.location))
+                    .addValue("since", b.since)
+                    .addValue("cap", capacity), rs -> {
+                b.sketch.offer(rs.getString(1), rs.getLong(2));
+            });
+        } catch (RuntimeException e) {
+            buckets.remove(key, b);
+            throw e;
+        }
+        b.ready = true;
+    }
+
+    private long maxId() {
+        Long max = jdbc.queryForObject("select coalesce(max(id), 0) from job_postings", Long.class);
+        return max == null ? 0 : max;
+    }
+
+    @FunctionalInterface
+    private interface RowConsumer {
+        void accept(ResultSet rs) throws SQLException;
+    }
+
+    /** Streams rows with id <= since through a server-side cursor; returns the row count. */
+    private long scan(String sql, long since, RowConsumer each) {
+        Long rows = jdbc.execute((ConnectionCallback<Long>) con -> {
+            boolean autoCommit = con.getAutoCommit();
+            con.setAutoCommit(false); // required for a server-side cursor (fetch size) in pgjdbc
+            try (PreparedStatement ps = con.prepareStatement(sql)) {
+                ps.setFetchSize(5_000);
+                ps.setLong(1, since);
+                long n = 0;
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        each.accept(rs);
+                        n++;
+                    }
+                }
+                return n;
+            } finally {
+                con.commit();
+                con.setAutoCommit(autoCommit);
+            }
+        });
+        return rows == null ? 0 : rows;
+    }
+
+    /** Candidate queries a posting makes hotter: everything, title and location word n-grams, and their pairs. */
+    static List<String> postingKeys(String title, String location) {
+        List<String> t = ngrams(tokens(title), TITLE_NGRAMS);
+        List<String> l = ngrams(tokens(location), LOCATION_NGRAMS);
+        List<String> keys = new ArrayList<>(1 + t.size() + l.size() + t.size() * l.size());
+        keys.add(ALL);
+        for (String a : t) keys.add(key(a, ""));
+        for (String b : l) keys.add(key("", b));
+        for (String a : t) for (String b : l) keys.add(key(a, b));
+        return keys;
+    }
+
+    /** The bucket answering a query: the filter's terms, case-folded only where that cannot change the match. */
+    static String queryKey(String title, String location) {
+        return key(fold(title), fold(location));
+    }
+
+    private static String key(String title, String location) {
+        return title + '\u0000' + location;
+    }
+
+    /**
+     * The SQL filter lower-cases both sides, so folding plain ASCII (where Java and Postgres agree) is safe
+     * and lets "Java" and "java" share a bucket; other terms are kept as typed.
+     */
+    private static String fold(String s) {
+        String t = JobPostingRepository.term(s);
+        return t.chars().allMatch(c -> c < 128) ? t.toLowerCase(Locale.ROOT) : t;
+    }
+
+    static List<String> tokens(String s) {
+        if (s == null || s.isBlank()) return List.of();
+        List<String> out = new ArrayList<>();
+        for (String t : s.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}+#]+")) {
+            if (!t.isEmpty()) out.add(t);
+        }
+        return out;
+    }
+
+    private static List<String> ngrams(List<String> tokens, int maxN) {
+        Set<String> out = new LinkedHashSet<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            StringBuilder sb = new StringBuilder();
+            for (int n = 0; n < maxN && i + n < tokens.size(); n++) {
+                if (n > 0) sb.append(' ');
+                sb.append(tokens.get(i + n));
+                out.add(sb.toString());
+            }
+        }
+        return List.copyOf(out);
+    }
+}
@@ -0,0 +1,101 @@
+package ai.jobsight.stats;
+
+import ai.jobsight.dto.SkillStatDTO;
+
+import java.util.*;
+
+/**
+ * Space-Saving heavy-hitter sketch (Metwally et al.): at most {@code capacity} counters.
+ * Any item occurring more than N/capacity times is guaranteed to be tracked; counts may be
+ * over-estimated by at most the count of the counter the item replaced (never more than N/capacity).
+ * Counters are also indexed by count, so finding the minimum to replace is O(log capacity).
+ */
+final class SpaceSaving {
+
+    private final int capacity;
+    private final Map<String, long[]> counters; // item -> {count, maxError}
+    private final TreeMap<Long, Set<String>> byCount = new TreeMap<>();
+
+    SpaceSaving(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    void offer(String item) {
+        offer(item, 1);
+    }
+
+    synchronized void offer(String item, long weight) {
+        long[] c = counters.get(item);
+        if (c != null) {
+            unindex(item, c[0]);
+            c[0] += weight;
+            index(item, c[0]);
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(item, new long[]{weight, 0});
+            index(item, weight);
+            return;
+        }
+        // Replace the (oldest) minimum counter
+        var min = byCount.firstEntry();
+        String minItem = min.getValue().iterator().next();
+        unindex(minItem, min.getKey());
+        counters.remove(minItem);
+        counters.put(item, new long[]{min.getKey() + weight, min.getKey()});
+        index(item, min.getKey() + weight);
+    }
+
+    /** Estimated count (an upper bound on the true count); 0 if not tracked. */
+    synchronized long estimate(String item) {
+        long[] c = counters.get(item);
+        return c == null ? 0 : c[0];
+    }
+
+    synchronized List<SkillStatDTO> top(int limit) {
+        List<SkillStatDTO> out = new ArrayList<>(counters.size());
+        counters.forEach((item, c) -> out.add(new SkillStatDTO(item, c[0], c[1] > 0)));
+        out.sort(Comparator.comparingLong(SkillStatDTO::count).reversed().thenComparing(SkillStatDTO::skill));
+        return out.size() > limit ? List.copyOf(out.subList(0, limit)) : out;
+    }
+
+    /** The {@code limit} items with the highest counts, highest first. */
+    synchronized List<String> topItems(int limit) {
+        List<String> out = new ArrayList<>(Math.min(limit, counters.size()));
+        for (Set<String> items : byCount.descendingMap().values()) {
+            for (String item : items) {
+                if (out.size() == limit) return out;
+                out.add(item);
+            }
+        }
+        return out;
+    }
+
+    /** Halves every counter (dropping those that reach 0), so old traffic gradually loses weight. */
+    synchronized void decay() {
+        byCount.clear();
+        for (var it = counters.entrySet().iterator(); it.hasNext(); ) {
+            var e = it.next();
+            long[] c = e.getValue();
+            c[0] >>= 1;
+            c[1] >>= 1;
+            if (c[0] == 0) it.remove();
+            else index(e.getKey(), c[0]);
+        }
+    }
+
+    synchronized int size() {
+        return counters.size();
+    }
+
+    private void index(String item, long count) {
+        byCount.computeIfAbsent(count, k -> new LinkedHashSet<>()).add(item);
+    }
+
+    private void unindex(String item, long count) {
+        Set<String> items = byCount.get(count);
+        items.remove(item);
+        if (items.isEmpty()) byCount.remove(count);
+    }
+}
@@ -0,0 +1,134 @@
+package ai.jobsight.text;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Case-insensitive Aho-Corasick automaton: finds every dictionary pattern in one pass over the text.
+ * Immutable after construction and safe to share; scanning allocates nothing.
+ * Transitions live in an open-addressing (state, char) -> state table instead of per-node maps.
+ */
+final class AhoCorasick {
+
+    @FunctionalInterface
+    interface Hit {
+        void on(int pattern, int start, int end);
+    }
+
+    private final int[] patternLength;
+    private final int[] fail;
+    private final int[][] out;      // patterns ending in a state, including those reached via failure links
+
+    private long[] keys;            // (state << 16 | char) + 1; 0 marks an empty slot
+    private int[] targets;
+    private int mask;
+    private int size;
+
+    AhoCorasick(List<String> patterns) {
+        patternLength = new int[patterns.size()];
+        keys = new long[256];
+        targets = new int[256];
+        mask = keys.length - 1;
+
+        // 1) trie; children lists are only needed while wiring failure links
+        List<List<Integer>> outputs = new ArrayList<>();
+        List<List<int[]>> children = new ArrayList<>();
+        outputs.add(new ArrayList<>());
+        children.add(new ArrayList<>());
+        for (int p = 0; p < patterns.size(); p++) {
+            String s = patterns.get(p).toLowerCase(Locale.ROOT);
+            patternLength[p] = s.length();
+            int cur = 0;
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                int next = next(cur, c);
+                if (next < 0) {
+                    next = outputs.size();
+                    outputs.add(new ArrayList<>());
+                    children.add(new ArrayList<>());
+                    children.get(cur).add(new int[]{c, next});
+                    put(cur, c, next);
+                }
+                cur = next;
+            }
+            outputs.get(cur).add(p);
+        }
+
+        // 2) failure links, breadth first; each state inherits the outputs of its failure state
+        int states = outputs.size();
+        fail = new int[states];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int[] edge : children.get(0)) queue.add(edge[1]);
+        while (!queue.isEmpty()) {
+            int s = queue.poll();
+            for (int[] edge : children.get(s)) {
+                char c = (char) edge[0];
+                int child = edge[1];
+                int f = fail[s];
+                int target;
+                while ((target = next(f, c)) < 0 && f != 0) f = fail[f];
+                fail[child] = Math.max(target, 0);
+                outputs.get(child).addAll(outputs.get(fail[child]));
+                queue.add(child);
+            }
+        }
+
+        out = new int[states][];
+        for (int s = 0; s < states; s++) {
+            out[s] = outputs.get(s).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /** Reports every occurrence as [start, end) char offsets into {@code text}. */
+    void scan(CharSequence text, Hit hit) {
+        int s = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int next;
+            while ((next = next(s, c)) < 0 && s != 0) s = fail[s];
+            s = Math.max(next, 0);
+            for (int p : out[s]) hit.on(p, i + 1 - patternLength[p], i + 1);
+        }
+    }
+
+    private int next(int state, char c) {
+        long k = key(state, c);
+        for (int i = slot(k); ; i = (i + 1) & mask) {
+            if (keys[i] == 0) return -1;
+            if (keys[i] == k) return targets[i];
+        }
+    }
+
+    private void put(int state, char c, int target) {
+        if (++size * 2 > keys.length) grow();
+        insert(key(state, c), target);
+    }
+
+    private void insert(long k, int target) {
+        int i = slot(k);
+        while (keys[i] != 0) i = (i + 1) & mask;
+        keys[i] = k;
+        targets[i] = target;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldTargets = targets;
+        keys = new long[oldKeys.length * 2];
+        targets = new int[oldKeys.length * 2];
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) insert(oldKeys[i], oldTargets[i]);
+        }
+    }
+
+    private static long key(int state, char c) {
+        return (((long) state << 16) | c) + 1;
+    }
+
+    private int slot(long k) {
+        return (int) ((k * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+    }
+}
@@ -0,0 +1,166 @@
+package ai.jobsight.text;
+
+import ai.jobsight.domain.enums.Seniority;
+import ai.jobsight.domain.enums.WorkType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Shared skill / work-type / seniority tagger for job postings and CV text.
+ * The dictionary (canonical skill -> synonyms, plus work-type and seniority keywords) is compiled once
+ * into an {@link AhoCorasick} automaton; classifying is one pass over the text, matches are whole words only
+ * (so "git" does not fire inside "digital").
+ */
+@Slf4j
+@Component
+public class TextClassifier {
+
+    public record Classification(Set<String> skills, WorkType workType, Seniority seniority) {}
+
+    private static final int SKILL = 0, WORK_TYPE = 1, SENIORITY = 2;
+
+    private final AhoCorasick automaton;
+    private final int[] kind;          // per pattern
+    private final String[] skill;      // canonical skill for SKILL patterns
+    private final int[] ordinal;       // enum ordinal for WORK_TYPE / SENIORITY patterns
+    private final Map<String, String> canonical = new HashMap<>();
+    private final String version;
+
+    public TextClassifier(
+            ObjectMapper mapper,
+            @Value("${classifier.dictionary:classpath:classifier/dictionary.json}") Resource dictionary
+    ) {
+        JsonNode root;
+        try (InputStream in = dictionary.getInputStream()) {
+            byte[] bytes = in.readAllBytes();
+            root = mapper.readTree(bytes);
+            this.version = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read classifier dictionary " + dictionary, e);
+        }
+
+        List<String> patterns = new ArrayList<>();
+        List<int[]> tags = new ArrayList<>();   // {kind, ordinal}
+        List<String> skills = new ArrayList<>();
+
+        root.path("skills").properties().forEach(e -> {
+            String name = normalize(e.getKey());
+            List<String> forms = new ArrayList<>();
+            forms.add(name);
+            e.getValue().forEach(s -> forms.add(normalize(s.asText())));
+            for (String f : forms) {
+                canonical.put(f, name);
+                patterns.add(f);
+                tags.add(new int[]{SKILL, -1});
+                skills.add(name);
+            }
+        });
+        root.path("workType").properties().forEach(e ->
+                e.getValue().forEach(s -> {
+                    patterns.add(normalize(s.asText()));
+                    tags.add(new int[]{WORK_TYPE, WorkType.valueOf(e.getKey()).ordinal()});
+                    skills.add(null);
+                }));
+        root.path("seniority").properties().forEach(e ->
+                e.getValue().forEach(s -> {
+                    patterns.add(normalize(s.asText()));
+                    tags.add(new int[]{SENIORITY, Seniority.valueOf(e.getKey()).ordinal()});
+                    skills.add(null);
+                }));
+
+        this.automaton = new AhoCorasick(patterns);
+        this.kind = tags.stream().mapToInt(t -> t[0]).toArray();
+        this.ordinal = tags.stream().mapToInt(t -> t[1]).toArray();
+        this.skill = skills.toArray(String[]::new);
+        log.info("Text classifier compiled {} patterns ({} canonical skills)", patterns.size(), new HashSet<>(canonical.values()).size());
+    }
+
+    /**
+     * Skills from title + description, work type from title + description (remote > hybrid > on-site),
+     * seniority from the title only (junior wins over senior; MID when neither is mentioned).
+     */
+    public Classification classify(String title, String description) {
+        Matches m = new Matches();
+        m.scan(title, true);
+        m.scan(description, false);
+
+        WorkType workType = m.has(m.workTypes, WorkType.REMOTE) ? WorkType.REMOTE
+                : m.has(m.workTypes, WorkType.HYBRID) ? WorkType.HYBRID
+                : m.has(m.workTypes, WorkType.ONSITE) ? WorkType.ONSITE
+                : WorkType.UNKNOWN;
+        Seniority seniority = m.has(m.seniorities, Seniority.JUNIOR) ? Seniority.JUNIOR
+                : m.has(m.seniorities, Seniority.SENIOR) ? Seniority.SENIOR
+                : Seniority.MID;
+        return new Classification(m.skills, workType, seniority);
+    }
+
+    /** Canonical skills mentioned in free text (e.g. a CV). */
+    public Set<String> skills(String text) {
+        Matches m = new Matches();
+        m.scan(text, false);
+        return m.skills;
+    }
+
+    /** Short content hash of the dictionary; results derived from another version are stale. */
+    public String version() {
+        return version;
+    }
+
+    /** Canonical name for a skill or one of its synonyms ("Postgres" -> "postgresql"); unknown skills are just normalized. */
+    public String canonicalSkill(String raw) {
+        String n = normalize(raw);
+        return canonical.getOrDefault(n, n);
+    }
+
+    private static String normalize(String s) {
+        return s == null ? "" : s.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** Per-call accumulator; a bit set per enum keeps the hot loop allocation-free apart from new skills. */
+    private final class Matches implements AhoCorasick.Hit {
+        final Set<String> skills = new HashSet<>();
+        int workTypes, seniorities;
+        private CharSequence text;
+        private boolean title;
+
+        void scan(String text, boolean title) {
+            if (text == null || text.isEmpty()) return;
+            this.text = text;
+            this.title = title;
+            automaton.scan(text, this);
+        }
+
+        @Override
+        public void on(int pattern, int start, int end) {
+            if (!wordAt(start, end)) return;
+            switch (kind[pattern]) {
+                case SKILL -> skills.add(skill[pattern]);
+                case WORK_TYPE -> workTypes |= 1 << ordinal[pattern];
+                case SENIORITY -> { if (title) seniorities |= 1 << ordinal[pattern]; }
+                default -> { }
+            }
+        }
+
+        boolean has(int bits, Enum<?> value) {
+            return (bits & (1 << value.ordinal())) != 0;
+        }
+
+        private boolean wordAt(int start, int end) {
+            return (start == 0 || !Character.isLetterOrDigit(text.charAt(start - 1)))
+                    && (end == text.length() || !Character.isLetterOrDigit(text.charAt(end)));
+        }
+    }
+}
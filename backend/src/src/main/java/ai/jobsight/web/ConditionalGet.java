@@ -0,0 +1,40 @@
+package ai.jobsight.web;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET for responses that are a pure function of a content version (plus the request URL).
+ * The ETag is the version itself, so If-None-Match is answered with 304 before the body is computed.
+ */
+public final class ConditionalGet {
+
+    private ConditionalGet() {}
+
+    /**
+     * 304 (body never computed) when the client already holds {@code version}, else 200 with the body;
+     * both carry the ETag and {@code cacheControl}. Returns null for the 304, which Spring treats as handled.
+     */
+    public static <T> ResponseEntity<T> respond(ServletWebRequest request, String version,
+                                                CacheControl cacheControl, Supplier<T> body) {
+        return respond(request, version, false, cacheControl, body);
+    }
+
+    /** As above; a {@code weak} ETag for versions that identify equivalent rather than byte-identical bodies. */
+    public static <T> ResponseEntity<T> respond(ServletWebRequest request, String version, boolean weak,
+                                                CacheControl cacheControl, Supplier<T> body) {
+        String etag = (weak ? "W/\"" : "\"") + version + "\"";
+        if (request.checkNotModified(etag)) {
+            // No ResponseEntity is rendered for the 304, so its headers go on the response directly
+            HttpServletResponse response = request.getResponse();
+            if (response != null) response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(body.get());
+    }
+}
@@ -0,0 +1,50 @@
+package ai.jobsight.domain.query;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Opaque cursor round-trip: microsecond timestamps and ids must survive exactly, garbage must be rejected. */
+class KeysetCursorTest {
+
+    @Test
+    void roundTripsMicrosecondPrecision() {
+        KeysetCursor cursor = new KeysetCursor(Instant.parse("2025-03-14T09:26:53.589793Z"), 1_234_567_890_123L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        assertThat(KeysetCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripsPreEpochAndStart() {
+        KeysetCursor old = new KeysetCursor(Instant.parse("1969-12-31T23:59:59.999999Z"), 1);
+        assertThat(KeysetCursor.decode(old.encode())).isEqualTo(old);
+        assertThat(KeysetCursor.decode(KeysetCursor.START.encode())).isEqualTo(KeysetCursor.START);
+    }
+
+    @Test
+    void truncatesBelowMicroseconds() {
+        Instant nanos = Instant.parse("2025-03-14T09:26:53.589793238Z");
+        KeysetCursor decoded = KeysetCursor.decode(new KeysetCursor(nanos, 7).encode());
+        assertThat(decoded.at()).isEqualTo(nanos.truncatedTo(ChronoUnit.MICROS));
+    }
+
+    @Test
+    void blankMeansFirstPage() {
+        assertThat(KeysetCursor.decode(null)).isEqualTo(KeysetCursor.START);
+        assertThat(KeysetCursor.decode(" ")).isEqualTo(KeysetCursor.START);
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not base64!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode("MTIz")).isInstanceOf(IllegalArgumentException.class);   // "123", no separator
+        assertThatThrownBy(() -> KeysetCursor.decode("YTpi")).isInstanceOf(IllegalArgumentException.class);   // "a:b"
+    }
+}
@@ -0,0 +1,253 @@
+package ai.jobsight.providers.adzuna;
+
+import ai.jobsight.providers.cache.ProviderResponseCache;
+import ai.jobsight.providers.cache.SingleFlight;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/** Encoded bytes relayed untouched, decoded body cached within the limit, taps isolated, one breaker outcome per call. */
+class AdzunaPassthroughTest {
+
+    private static final String JSON = "{\"count\":1,\"results\":[{\"title\":\"Java Developer\"}]}";
+
+    private final RestClient.Builder builder = RestClient.builder().baseUrl("https://adzuna.test/v1/api/jobs");
+    private final MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+    private final RestClient http = builder.build();
+    private final CircuitBreakerRegistry breakers = CircuitBreakerRegistry.ofDefaults();
+    private final ProviderResponseCache cache =
+            new ProviderResponseCache(breakers, new SingleFlight(), Duration.ofMinutes(2), Duration.ofMinutes(30), 100);
+    private final AdzunaService adzuna = new AdzunaService(http, new AdzunaProperties(), cache);
+
+    private AdzunaPassthrough passthrough(DataSize cacheMaxSize, StreamTap.Factory... taps) {
+        @SuppressWarnings("unchecked")
+        ObjectProvider<StreamTap.Factory> provider = mock(ObjectProvider.class);
+        when(provider.orderedStream()).thenAnswer(i -> Stream.of(taps));
+        return new AdzunaPassthrough(http, adzuna, cache, breakers, provider, true, cacheMaxSize, Duration.ofSeconds(5));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> search(AdzunaPassthrough p, String acceptEncoding) {
+        return p.search("java", null, "Warsaw", null, false, false, "date", 0, 20, acceptEncoding);
+    }
+
+    private static byte[] write(ResponseEntity<StreamingResponseBody> r) throws IOException {
+        var out = new ByteArrayOutputStream();
+        r.getBody().writeTo(out);
+        return out.toByteArray();
+    }
+
+    private static byte[] gzip(String s) throws IOException {
+        var out = new ByteArrayOutputStream();
+        try (var gz = new GZIPOutputStream(out)) {
+            gz.write(s.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
+    private CircuitBreaker.Metrics metrics() {
+        return breakers.circuitBreaker("adzuna").getMetrics();
+    }
+
+    @Test
+    void gzipIsPassedThroughAndCachedDecoded() throws IOException {
+        byte[] gz = gzip(JSON);
+        server.expect(once(), header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andRespond(withSuccess(gz, MediaType.APPLICATION_JSON).header(HttpHeaders.CONTENT_ENCODING, "gzip"));
+        var p = passthrough(DataSize.ofMegabytes(2));
+
+        var first = search(p, "gzip, deflate, br");
+
+        assertThat(first.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(first.getHeaders().getFirst(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(write(first)).isEqualTo(gz);
+        assertThat(metrics().getNumberOfSuccessfulCalls()).isEqualTo(1);
+
+        var second = search(p, "gzip");
+
+        assertThat(second.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(new String(write(second), StandardCharsets.UTF_8)).isEqualTo(JSON);
+        server.verify();
+    }
+
+    @Test
+    void clientWithoutGzipGetsIdentity() throws IOException {
+        server.expect(once(), header(HttpHeaders.ACCEPT_ENCODING, "identity"))
+                .andRespond(withSuccess(JSON, MediaType.APPLICATION_JSON));
+
+        assertThat(new String(write(search(passthrough(DataSize.ofMegabytes(2)), null)), StandardCharsets.UTF_8))
+                .isEqualTo(JSON);
+        server.verify();
+    }
+
+    @Test
+    void bodyOverTheLimitIsRelayedButNotCached() throws IOException {
+        server.expect(times(2), header(HttpHeaders.ACCEPT_ENCODING, "identity"))
+                .andRespond(withSuccess(JSON, MediaType.APPLICATION_JSON));
+        var p = passthrough(DataSize.ofBytes(JSON.length() - 1));
+
+        assertThat(new String(write(search(p, null)), StandardCharsets.UTF_8)).isEqualTo(JSON);
+        assertThat(cache.stats().size()).isZero();
+        assertThat(new String(write(search(p, null)), StandardCharsets.UTF_8)).isEqualTo(JSON);
+        server.verify();
+    }
+
+    @Test
+    void declaredLengthOverTheLimitSkipsBuffering() throws IOException {
+        server.expect(once(), header(HttpHeaders.ACCEPT_ENCODING, "identity"))
+                .andRespond(withSuccess(JSON, MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(JSON.length())));
+
+        var r = search(passthrough(DataSize.ofBytes(JSON.length() - 1)), null);
+
+        assertThat(r.getHeaders().getContentLength()).isEqualTo(JSON.length());
+        assertThat(write(r)).hasSize(JSON.length());
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    void failingTapIsDetachedAndTheRelayContinues() throws IOException {
+        server.expect(once(), header(HttpHeaders.ACCEPT_ENCODING, "identity"))
+                .andRespond(withSuccess(JSON, MediaType.APPLICATION_JSON));
+        var broken = new RecordingTap(true);
+        var healthy = new RecordingTap(false);
+
+        byte[] body = write(search(passthrough(DataSize.ofMegabytes(2), key -> broken, key -> healthy), null));
+
+        assertThat(new String(body, StandardCharsets.UTF_8)).isEqualTo(JSON);
+        assertThat(broken.chunks).isEqualTo(1);
+        assertThat(broken.completed).isEqualTo(-1);
+        assertThat(healthy.body.toString(StandardCharsets.UTF_8)).isEqualTo(JSON);
+        assertThat(healthy.completed).isEqualTo(JSON.length());
+        assertThat(cache.stats().size()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentMissWaitsForTheLeaderInsteadOfCallingUpstream() throws Exception {
+        server.expect(once(), header(HttpHeaders.ACCEPT_ENCODING, "identity"))
+                .andRespond(withSuccess(JSON, MediaType.APPLICATION_JSON));
+        var p = passthrough(DataSize.ofMegabytes(2));
+
+        var leader = search(p, null);
+        var follower = CompletableFuture.supplyAsync(() -> search(p, null));
+        Thread.sleep(200);
+        assertThat(follower).isNotDone();
+
+        write(leader);
+
+        assertThat(new String(write(follower.get(5, TimeUnit.SECONDS)), StandardCharsets.UTF_8)).isEqualTo(JSON);
+        server.verify();
+    }
+
+    @Test
+    void serverErrorIsOneBreakerFailure() throws IOException {
+        server.expect(once(), header(HttpHeaders.ACCEPT_ENCODING, "identity")).andRespond(withServerError());
+
+        var r = search(passthrough(DataSize.ofMegabytes(2)), null);
+        write(r);
+
+        assertThat(r.getStatusCode().value()).isEqualTo(500);
+        assertThat(metrics().getNumberOfFailedCalls()).isEqualTo(1);
+        assertThat(metrics().getNumberOfSuccessfulCalls()).isZero();
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    void upstreamFailureMidBodyIsABreakerError() {
+        var tap = new RecordingTap(false);
+        var res = new MockClientHttpResponse(failingAfter("{\"count\""), HttpStatus.OK);
+        var taps = new ArrayList<StreamTap>(List.of(tap));
+
+        assertThatThrownBy(() -> AdzunaPassthrough.relay(res, new ByteArrayOutputStream(), taps,
+                new AdzunaPassthrough.BreakerCall(breakers.circuitBreaker("adzuna"))))
+                .isInstanceOf(IOException.class);
+
+        assertThat(metrics().getNumberOfFailedCalls()).isEqualTo(1);
+        assertThat(tap.error).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void clientGoneRecordsNoOutcome() {
+        var res = new MockClientHttpResponse(JSON.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+        var closed = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThatThrownBy(() -> AdzunaPassthrough.relay(res, closed, new ArrayList<>(),
+                new AdzunaPassthrough.BreakerCall(breakers.circuitBreaker("adzuna"))))
+                .hasMessage("Broken pipe");
+
+        assertThat(metrics().getNumberOfBufferedCalls()).isZero();
+    }
+
+    /** Returns {@code prefix}, then fails the next read. */
+    private static InputStream failingAfter(String prefix) {
+        return new SequenceInputStream(new ByteArrayInputStream(prefix.getBytes(StandardCharsets.UTF_8)), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Connection reset");
+            }
+        });
+    }
+
+    private static final class RecordingTap implements StreamTap {
+        private final boolean failOnChunk;
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private int chunks;
+        private long completed = -1;
+        private Throwable error;
+
+        RecordingTap(boolean failOnChunk) {
+            this.failOnChunk = failOnChunk;
+        }
+
+        @Override
+        public void onChunk(byte[] buf, int off, int len) {
+            chunks++;
+            if (failOnChunk) throw new IllegalStateException("tap bug");
+            body.write(buf, off, len);
+        }
+
+        @Override
+        public void onComplete(long bytes) {
+            completed = bytes;
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            error = e;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package ai.jobsight.providers.adzuna;
+
+import ai.jobsight.domain.JobPosting;
+import ai.jobsight.domain.SalaryRange;
+import ai.jobsight.domain.enums.JobSource;
+import ai.jobsight.domain.enums.Seniority;
+import ai.jobsight.domain.enums.WorkType;
+import ai.jobsight.text.TextClassifier;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Allocated bytes per Adzuna page (fixture: 50 results), measured with the per-thread allocation counter:
+ * the pre-parser path (body String -> JsonNode tree -> quadratic toDomain) against {@link AdzunaPayloadParser}.
+ */
+class AdzunaPayloadParserAllocationTest {
+
+    private static final int WARM_UP = 200;
+    private static final int ROUNDS = 500;
+
+    private static byte[] page;
+    private static AdzunaPayloadParser parser;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        try (InputStream in = new ClassPathResource("adzuna/search-page-50.json").getInputStream()) {
+            page = in.readAllBytes();
+        }
+        ObjectMapper mapper = new ObjectMapper();
+        parser = new AdzunaPayloadParser(mapper,
+                new TextClassifier(mapper, new ClassPathResource("classifier/dictionary.json")));
+    }
+
+    @Test
+    void parserEmitsOnePostingPerResult() throws Exception {
+        assertThat(parser.parse(new ByteArrayInputStream(page))).hasSize(50);
+        assertThat(LegacyMapping.parse(page)).hasSize(50 * 50);
+    }
+
+    @Test
+    void parserAllocatesLessPerPageThanTheTreePath() throws Exception {
+        long legacy = bytesPerPage(() -> LegacyMapping.parse(page));
+        long streaming = bytesPerPage(() -> parser.parse(new ByteArrayInputStream(page)));
+
+        // Measured ~60x (about 9.8 MB vs 156 KB per page); 10x leaves room for JIT and GC noise
+        assertThat((double) legacy / streaming)
+                .as("legacy %,d B/page vs parser %,d B/page", legacy, streaming)
+                .isGreaterThan(10.0);
+    }
+
+    private interface Work {
+        List<JobPosting> run() throws Exception;
+    }
+
+    private static long bytesPerPage(Work work) throws Exception {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid = Thread.currentThread().threadId();
+        int sink = 0;
+        for (int i = 0; i < WARM_UP; i++) sink += work.run().size();
+        long before = threads.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < ROUNDS; i++) sink += work.run().size();
+        long after = threads.getThreadAllocatedBytes(tid);
+        assertThat(sink).isPositive();
+        return (after - before) / ROUNDS;
+    }
+
+    /** AdzunaProvider's mapping before AdzunaPayloadParser, kept verbatim as the baseline. */
+    static final class LegacyMapping {
+        private static final ObjectMapper om = new ObjectMapper();
+
+        static List<JobPosting> parse(byte[] body) throws Exception {
+            String json = new String(body, StandardCharsets.UTF_8); // RestClient body(String.class)
+            JsonNode root = om.readTree(json);
+            return toDomain(root.path("results"));
+        }
+
+        private static List<JobPosting> toDomain(JsonNode results) {
+            return results.findValuesAsText("id")
+                    .stream()
+                    .map(id -> results)
+                    .flatMap(node -> {
+                        Set<JobPosting> items = new HashSet<>();
+                        for (JsonNode n : node) {
+                            Set<String> skills = inferSkills(n.path("description").asText());
+                            JobPosting jp = JobPosting.builder()
+                                    .provider(JobSource.ADZUNA)
+                                    .providerId(n.path("id").asText())
+                                    .title(n.path("title").asText())
+                                    .company(n.path("company").path("display_name").asText(""))
+                                    .location(n.path("location").path("display_name").asText(""))
+                                    .workType(inferWorkType(n))
+                                    .seniority(inferSeniority(n.path("title").asText()))
+                                    .skills(skills)
+                                    .salary(SalaryRange.builder()
+                                            .min(n.path("salary_min").isNumber() ? n.path("salary_min").asInt() : null)
+                                            .max(n.path("salary_max").isNumber() ? n.path("salary_max").asInt() : null)
+                                            .build())
+                                    .currency(n.path("salary_currency").asText(null))
+                                    .postedAt(parseDate(n.path("created").asText(null)))
+                                    .url(n.path("redirect_url").asText(null))
+                                    .description(n.path("description").asText(null))
+                                    .build();
+                            items.add(jp);
+                        }
+                        return items.stream();
+                    })
+                    .toList();
+        }
+
+        private static Instant parseDate(String s) {
+            try { return s == null ? null : Instant.parse(s); }
+            catch (Exception e) { return null; }
+        }
+
+        private static WorkType inferWorkType(JsonNode n) {
+            String desc = (n.path("title").asText("") + " " + n.path("description").asText("")).toLowerCase();
+            if (desc.contains("remote")) return WorkType.REMOTE;
+            if (desc.contains("hybrid")) return WorkType.HYBRID;
+            if (desc.contains("on-site") || desc.contains("on site") || desc.contains("onsite")) return WorkType.ONSITE;
+            return WorkType.UNKNOWN;
+        }
+
+        private static Seniority inferSeniority(String title) {
+            String t = title.toLowerCase();
+            if (t.contains("junior")) return Seniority.JUNIOR;
+            if (t.contains("senior") || t.contains("lead") || t.contains("principal")) return Seniority.SENIOR;
+            return Seniority.MID;
+        }
+
+        private static Set<String> inferSkills(String text) {
+            String d = text == null ? "" : text.toLowerCase();
+            String[] known = {"java","spring","spring boot","react","docker","kubernetes","aws","gcp","azure",
+                    "postgresql","mysql","mongodb","redis","kafka","rabbitmq","jenkins","git","rest","graphql"};
+            Set<String> out = new HashSet<>();
+            for (String k : known) if (d.contains(k)) out.add(k);
+            return out;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package ai.jobsight.providers.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Concurrent callers with one key share a single load and see the same result or failure. */
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight flight = new SingleFlight();
+    private final ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        flight.shutdown();
+    }
+
+    @Test
+    void coalescesConcurrentCallsForTheSameKey() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submitAll("k", () -> {
+            loads.incrementAndGet();
+            release.await();
+            return "body";
+        });
+        awaitCallers();
+        release.countDown();
+
+        for (Future<String> f : results) assertThat(f.get(5, TimeUnit.SECONDS)).isEqualTo("body");
+        assertThat(loads).hasValue(1);
+        assertThat(flight.stats()).isEqualTo(new SingleFlight.Stats(1, CALLERS - 1, 0));
+    }
+
+    @Test
+    void propagatesTheLoaderFailureToEveryCaller() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        IOException failure = new IOException("upstream 503");
+
+        List<Future<String>> results = submitAll("k", () -> {
+            release.await();
+            throw failure;
+        });
+        awaitCallers();
+        release.countDown();
+
+        for (Future<String> f : results) {
+            assertThatThrownBy(() -> f.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        }
+        assertThat(flight.stats().inFlight()).isZero();
+    }
+
+    @Test
+    void loadsAgainOnceTheFlightHasLanded() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+
+        flight.execute("k", loads::incrementAndGet);
+        flight.execute("k", loads::incrementAndGet);
+        flight.execute("other", loads::incrementAndGet);
+
+        assertThat(loads).hasValue(3);
+        assertThat(flight.stats().leaders()).isEqualTo(3);
+    }
+
+    private <T> List<Future<T>> submitAll(String key, ProviderResponseCache.Loader<T> loader) {
+        List<Future<T>> out = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) out.add(callers.submit(() -> flight.execute(key, loader)));
+        return out;
+    }
+
+    /** Waits until every caller has either started the load or joined it. */
+    private void awaitCallers() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            SingleFlight.Stats s = flight.stats();
+            if (s.leaders() + s.coalesced() == CALLERS) return;
+            if (System.nanoTime() > deadline) throw new AssertionError("callers did not arrive: " + s);
+            Thread.sleep(5);
+        }
+    }
+}
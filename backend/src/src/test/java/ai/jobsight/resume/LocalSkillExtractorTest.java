@@ -0,0 +1,57 @@
+package ai.jobsight.resume;
+
+import ai.jobsight.text.TextClassifier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Format sniffing and text extraction straight from the upload stream. */
+class LocalSkillExtractorTest {
+
+    private final LocalSkillExtractor extractor = new LocalSkillExtractor(
+            new TextClassifier(new ObjectMapper(), new ClassPathResource("classifier/dictionary.json")), 1_000_000, 50);
+
+    @Test
+    void extractsSkillsFromPdfUpload() throws Exception {
+        byte[] pdf = pdf("Senior Java developer: Spring Boot, Docker");
+
+        var skills = extractor.extract(new MockMultipartFile("file", "cv.bin", "application/octet-stream", pdf));
+
+        assertThat(skills).contains("java", "spring boot", "docker");
+    }
+
+    @Test
+    void fallsBackToPlainText() throws Exception {
+        byte[] text = "Python,\nPostgres".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(extractor.extract(new MockMultipartFile("file", "cv.txt", "text/plain", text)))
+                .containsExactly("postgresql", "python");
+    }
+
+    private static byte[] pdf(String line) throws Exception {
+        try (PDDocument doc = new PDDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            PDPage page = new PDPage();
+            doc.addPage(page);
+            try (PDPageContentStream cs = new PDPageContentStream(doc, page)) {
+                cs.beginText();
+                cs.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                cs.newLineAtOffset(50, 700);
+                cs.showText(line);
+                cs.endText();
+            }
+            doc.save(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package ai.jobsight.service;
+
+import ai.jobsight.dto.PreciseRoadmapRequest;
+import ai.jobsight.repo.CachedRoadmapRepo;
+import ai.jobsight.save.CachedRoadmap;
+import ai.jobsight.text.TextClassifier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/** Requests that reach the same prompt share a key; storage failures never reach the caller. */
+class RoadmapPlanCacheTest {
+
+    private static final String MODEL = "llama3.2:3b";
+
+    private final CachedRoadmapRepo repo = mock(CachedRoadmapRepo.class);
+    private final RoadmapPlanCache cache = new RoadmapPlanCache(repo,
+            new TextClassifier(new ObjectMapper(), new ClassPathResource("classifier/dictionary.json")),
+            Duration.ofDays(7), 100, 1000);
+
+    private static PreciseRoadmapRequest request(String role, String skills, String months, String country) {
+        var req = new PreciseRoadmapRequest();
+        req.setTargetRole(role);
+        req.setCurrentSkills(skills);
+        req.setTimelineMonths(months);
+        req.setCountry(country);
+        return req;
+    }
+
+    @Test
+    void canonicalFormNormalizesEveryPromptField() {
+        var key = cache.key(request("  Java   Backend Engineer ", "Postgres, docker, ,postgresql", "03", "PL"), MODEL);
+
+        assertThat(key.canonical()).isEqualTo("java backend engineer|docker,postgresql|3|pl|llama3.2:3b");
+        assertThat(key.hash()).hasSize(64).matches("[0-9a-f]+");
+    }
+
+    @Test
+    void equivalentRequestsShareTheHash() {
+        var a = cache.key(request("Java Backend Engineer", "docker, postgresql", "3", "pl"), MODEL);
+        var b = cache.key(request("java backend  engineer", "PostgreSQL,Docker,postgres", "3 months", " PL"), MODEL);
+
+        assertThat(b).isEqualTo(a);
+    }
+
+    @Test
+    void modelAndTimelineAreSeparateKeys() {
+        var req = request("Java Backend Engineer", "docker", "3", "pl");
+
+        assertThat(cache.key(req, "other-model").hash()).isNotEqualTo(cache.key(req, MODEL).hash());
+        assertThat(cache.key(request("Java Backend Engineer", "docker", "30", "pl"), MODEL).hash())
+                .isNotEqualTo(cache.key(req, MODEL).hash());
+    }
+
+    @Test
+    void missingFieldsStillKey() {
+        var key = cache.key(request(null, null, null, null), MODEL);
+
+        assertThat(key.canonical()).isEqualTo("||||llama3.2:3b");
+    }
+
+    @Test
+    void blankPlansAreNotCached() {
+        var key = cache.key(request("Java Backend Engineer", "docker", "3", "pl"), MODEL);
+
+        cache.put(key, MODEL, "  ");
+
+        verify(repo, never()).save(any());
+        assertThat(cache.get(key)).isEmpty();
+    }
+
+    @Test
+    void storedPlanIsServedFromMemory() {
+        var key = cache.key(request("Java Backend Engineer", "docker", "3", "pl"), MODEL);
+
+        cache.put(key, MODEL, "plan");
+
+        assertThat(cache.get(key)).contains("plan");
+        verify(repo).save(any());
+        verify(repo, never()).findById(anyString());
+    }
+
+    @Test
+    void rowForAnotherCanonicalRequestOrPastTtlIsAMiss() {
+        var key = cache.key(request("Java Backend Engineer", "docker", "3", "pl"), MODEL);
+        var collision = new CachedRoadmap(key.hash(), "something else", MODEL, "plan", Instant.now());
+        var expired = new CachedRoadmap(key.hash(), key.canonical(), MODEL, "plan", Instant.now().minus(Duration.ofDays(8)));
+
+        when(repo.findById(key.hash())).thenReturn(Optional.of(collision));
+        assertThat(cache.get(key)).isEmpty();
+
+        when(repo.findById(key.hash())).thenReturn(Optional.of(expired));
+        assertThat(cache.get(key)).isEmpty();
+    }
+
+    @Test
+    void storageFailuresAreSwallowed() {
+        var key = cache.key(request("Java Backend Engineer", "docker", "3", "pl"), MODEL);
+        when(repo.findById(anyString())).thenThrow(new IllegalStateException("db down"));
+        when(repo.save(any())).thenThrow(new IllegalStateException("db down"));
+
+        assertThat(cache.get(key)).isEmpty();
+        cache.put(key, MODEL, "plan");
+        assertThat(cache.get(key)).contains("plan");
+    }
+}
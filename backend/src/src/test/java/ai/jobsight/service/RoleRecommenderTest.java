@@ -0,0 +1,94 @@
+package ai.jobsight.service;
+
+import ai.jobsight.text.TextClassifier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Coverage ranking over the role bitsets, including roles whose skills span more than one 64-bit word. */
+class RoleRecommenderTest {
+
+    // backend: java=0, postgresql=1, docker=2, kafka=3; java-only adds spring=4; wide: s0..s69 = bits 5..74
+    private static final String CATALOG = """
+            {"roles": [
+              {"id": "backend", "title": "Backend", "targetSkills": ["java", "postgresql", "docker", "kafka"]},
+              {"id": "java-only", "title": "Java", "targetSkills": ["Java", "spring"]},
+              {"id": "wide", "title": "Wide", "targetSkills": [%s]}
+            ]}
+            """.formatted(IntStream.range(0, 70).mapToObj(i -> "\"s" + i + "\"").collect(Collectors.joining(",")));
+
+    private final TextClassifier classifier =
+            new TextClassifier(new ObjectMapper(), new ClassPathResource("classifier/dictionary.json"));
+    private final RoadmapTemplates templates = new RoadmapTemplates(classifier, new ObjectMapper(),
+            new ByteArrayResource(CATALOG.getBytes(StandardCharsets.UTF_8)));
+    private final RoleRecommender recommender = new RoleRecommender(templates);
+
+    @Test
+    void ranksByCoverageThenMatchedCount() {
+        var out = recommender.recommend(List.of("Java", "Postgres", "s60", "s69", "cobol"), 10);
+
+        assertThat(out).extracting(RoleRecommender.RoleMatch::roleId).containsExactly("backend", "java-only", "wide");
+        var backend = out.get(0);
+        assertThat(backend.coverage()).isEqualTo(0.5);
+        assertThat(backend.matched()).isEqualTo(2);
+        assertThat(backend.total()).isEqualTo(4);
+        assertThat(out.get(1).coverage()).isEqualTo(0.5);
+        assertThat(out.get(1).matched()).isEqualTo(1);
+    }
+
+    @Test
+    void splitKeepsCatalogOrderAndNames() {
+        var out = recommender.recommend(List.of("docker", "postgres"), 1);
+
+        assertThat(out).hasSize(1);
+        assertThat(out.get(0).present()).containsExactly("postgresql", "docker");
+        assertThat(out.get(0).missing()).containsExactly("java", "kafka");
+    }
+
+    @Test
+    void skillsPastTheFirstWordAreMatched() {
+        var wide = recommender.recommend(List.of("s0", "s60", "s69"), 3).stream()
+                .filter(m -> m.roleId().equals("wide")).findFirst().orElseThrow();
+
+        assertThat(wide.matched()).isEqualTo(3);
+        assertThat(wide.total()).isEqualTo(70);
+        assertThat(wide.present()).containsExactly("s0", "s60", "s69");
+        assertThat(wide.missing()).hasSize(67);
+    }
+
+    @Test
+    void shortUserBitsetMissesHighBits() {
+        long[] user = templates.encode(List.of("java"));
+        var wide = templates.byId("wide").orElseThrow();
+
+        assertThat(user).hasSize(1);
+        assertThat(RoadmapTemplates.matched(wide, user)).isZero();
+        assertThat(RoadmapTemplates.has(user, 74)).isFalse();
+    }
+
+    @Test
+    void limitIsClampedToOneAndTheCatalogSize() {
+        assertThat(recommender.recommend(List.of(), 0)).hasSize(1);
+        assertThat(recommender.recommend(null, 50)).hasSize(3)
+                .allSatisfy(m -> assertThat(m.matched()).isZero());
+    }
+
+    @Test
+    void bundledCatalogMatchesSynonyms() {
+        var bundled = new RoleRecommender(new RoadmapTemplates(classifier, new ObjectMapper(),
+                new ClassPathResource("roles/catalog.json")));
+
+        var top = bundled.recommend(List.of("java", "spring", "springboot", "postgres", "docker"), 1).get(0);
+
+        assertThat(top.roleId()).isEqualTo("java-backend");
+        assertThat(top.present()).contains("postgresql", "spring boot");
+    }
+}
@@ -0,0 +1,37 @@
+package ai.jobsight.stats;
+
+import ai.jobsight.repo.JobPostingRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Bucket keys: one per distinct SQL filter, and posting candidates land on the keys queries look up. */
+class SkillStatsEngineTest {
+
+    @Test
+    void queryKeyFoldsOnlyWhatTheFilterIgnores() {
+        assertThat(SkillStatsEngine.queryKey(" Java Developer ", "WARSAW"))
+                .isEqualTo(SkillStatsEngine.queryKey("java developer", "warsaw"));
+        assertThat(SkillStatsEngine.queryKey(null, "")).isEqualTo(SkillStatsEngine.queryKey("", null));
+        // different LIKE patterns, so different buckets
+        assertThat(SkillStatsEngine.queryKey("java-developer", null))
+                .isNotEqualTo(SkillStatsEngine.queryKey("java developer", null));
+        assertThat(SkillStatsEngine.queryKey("Kraków", null)).isNotEqualTo(SkillStatsEngine.queryKey("kraków", null));
+        assertThat(SkillStatsEngine.queryKey("java", "x")).isNotEqualTo(SkillStatsEngine.queryKey("javax", ""));
+    }
+
+    @Test
+    void postingCandidatesMatchQueryKeys() {
+        assertThat(SkillStatsEngine.postingKeys("Senior Java Developer", "Warsaw, Poland")).contains(
+                SkillStatsEngine.queryKey("", ""),
+                SkillStatsEngine.queryKey("java developer", ""),
+                SkillStatsEngine.queryKey("", "warsaw"),
+                SkillStatsEngine.queryKey("senior java", "poland"));
+    }
+
+    @Test
+    void textFilterOverReplacesEveryParameter() {
+        String sql = JobPostingRepository.textFilterOver("b");
+        assertThat(sql).doesNotContain(":").contains("b.q_like", "b.loc_like", "plainto_tsquery('simple', b.q)", "b.loc = ''");
+    }
+}
@@ -0,0 +1,79 @@
+package ai.jobsight.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Space-Saving guarantees on a skewed stream: over-estimates bounded by N/capacity, heavy hitters always tracked. */
+class SpaceSavingTest {
+
+    @Test
+    void estimatesAreUpperBoundsWithinNOverCapacity() {
+        int capacity = 50;
+        SpaceSaving sketch = new SpaceSaving(capacity);
+        Map<String, Long> truth = new HashMap<>();
+        Random random = new Random(42);
+        int n = 100_000;
+        for (int i = 0; i < n; i++) {
+            // Zipf-like: a few heavy items, a long tail of rare ones
+            String item = "s" + (int) Math.floor(Math.pow(random.nextDouble(), 3) * 2_000);
+            truth.merge(item, 1L, Long::sum);
+            sketch.offer(item);
+        }
+
+        assertThat(sketch.size()).isEqualTo(capacity);
+        long bound = n / capacity;
+        truth.forEach((item, count) -> {
+            long estimate = sketch.estimate(item);
+            if (estimate > 0) assertThat(estimate).isBetween(count, count + bound);
+            if (count > bound) assertThat(estimate).as("heavy hitter %s", item).isPositive();
+        });
+    }
+
+    @Test
+    void replacesOldestMinimumAndInheritsItsCount() {
+        SpaceSaving sketch = new SpaceSaving(2);
+        sketch.offer("a", 3);
+        sketch.offer("b", 1);
+        sketch.offer("c", 1);
+        sketch.offer("d", 1);
+
+        assertThat(sketch.estimate("b")).isZero();
+        assertThat(sketch.estimate("c")).isZero();
+        assertThat(sketch.estimate("d")).isEqualTo(3);
+        assertThat(sketch.estimate("a")).isEqualTo(3);
+        assertThat(sketch.top(2)).extracting(s -> s.skill() + (s.estimated() ? "~" : "")).containsExactly("a", "d~");
+    }
+
+    @Test
+    void topOrdersByCountThenName() {
+        SpaceSaving sketch = new SpaceSaving(10);
+        sketch.offer("java", 5);
+        sketch.offer("go", 2);
+        sketch.offer("sql", 5);
+        sketch.offer("rust");
+
+        assertThat(sketch.topItems(3)).containsExactly("java", "sql", "go");
+        assertThat(sketch.top(2)).extracting(s -> s.skill() + "=" + s.count()).containsExactly("java=5", "sql=5");
+    }
+
+    @Test
+    void decayHalvesCountsAndDropsEmptyCounters() {
+        SpaceSaving sketch = new SpaceSaving(10);
+        sketch.offer("hot", 10);
+        sketch.offer("cold");
+        sketch.decay();
+
+        assertThat(sketch.estimate("hot")).isEqualTo(5);
+        assertThat(sketch.estimate("cold")).isZero();
+        assertThat(sketch.size()).isEqualTo(1);
+
+        sketch.offer("hot");
+        assertThat(sketch.topItems(5)).containsExactly("hot");
+        assertThat(sketch.estimate("hot")).isEqualTo(6);
+    }
+}
@@ -0,0 +1,61 @@
+package ai.jobsight.text;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Raw automaton matches: every occurrence of every pattern, including overlapping ones and
+ * those only reachable through failure links. Word boundaries are the caller's concern.
+ */
+class AhoCorasickTest {
+
+    private static List<String> hits(List<String> patterns, String text) {
+        List<String> out = new ArrayList<>();
+        new AhoCorasick(patterns).scan(text, (p, start, end) -> out.add(patterns.get(p) + "@" + start + "-" + end));
+        return out;
+    }
+
+    @Test
+    void reportsOverlappingAndNestedMatches() {
+        assertThat(hits(List.of("he", "she", "his", "hers"), "ushers"))
+                .containsExactlyInAnyOrder("she@1-4", "he@2-4", "hers@2-6");
+    }
+
+    @Test
+    void reportsRepeatedSelfOverlappingOccurrences() {
+        assertThat(hits(List.of("aa"), "aaaa")).containsExactly("aa@0-2", "aa@1-3", "aa@2-4");
+    }
+
+    @Test
+    void matchesCaseInsensitively() {
+        assertThat(hits(List.of("Spring Boot", "java"), "JAVA and spring BOOT"))
+                .containsExactly("java@0-4", "Spring Boot@9-20");
+    }
+
+    @Test
+    void followsFailureLinksAfterPartialMatch() {
+        assertThat(hits(List.of("abcd", "bce"), "abce")).containsExactly("bce@1-4");
+    }
+
+    @Test
+    void matchesInsideWordsAndOnPunctuation() {
+        assertThat(hits(List.of("git", "c#", ".net"), "digital c# .net"))
+                .containsExactly("git@2-5", "c#@8-10", ".net@11-15");
+    }
+
+    @Test
+    void survivesTableGrowth() {
+        List<String> patterns = new ArrayList<>();
+        for (int i = 0; i < 500; i++) patterns.add("skill" + i);
+        assertThat(hits(patterns, "x skill499 y")).contains("skill499@2-10", "skill49@2-9", "skill4@2-8");
+    }
+
+    @Test
+    void noPatternsNoHits() {
+        assertThat(hits(List.of(), "anything")).isEmpty();
+    }
+}
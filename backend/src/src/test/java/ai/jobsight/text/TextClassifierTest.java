@@ -0,0 +1,36 @@
+package ai.jobsight.text;
+
+import ai.jobsight.domain.enums.Seniority;
+import ai.jobsight.domain.enums.WorkType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Classification against the bundled dictionary: whole-word matches only, synonyms mapped to canonical skills. */
+class TextClassifierTest {
+
+    private final TextClassifier classifier =
+            new TextClassifier(new ObjectMapper(), new ClassPathResource("classifier/dictionary.json"));
+
+    @Test
+    void ignoresMatchesInsideWords() {
+        assertThat(classifier.skills("Digital marketing, javascript-free")).doesNotContain("git", "java");
+        assertThat(classifier.skills("git, java.")).contains("git", "java");
+    }
+
+    @Test
+    void mapsSynonymsToCanonicalSkill() {
+        assertThat(classifier.skills("Postgres and SpringBoot")).contains("postgresql", "spring boot");
+        assertThat(classifier.canonicalSkill(" Postgres ")).isEqualTo("postgresql");
+    }
+
+    @Test
+    void seniorityComesFromTitleOnly() {
+        var c = classifier.classify("Java Developer", "You will work with senior engineers, fully remote");
+        assertThat(c.seniority()).isEqualTo(Seniority.MID);
+        assertThat(c.workType()).isEqualTo(WorkType.REMOTE);
+        assertThat(classifier.classify("Senior Jr Engineer", null).seniority()).isEqualTo(Seniority.JUNIOR);
+    }
+}
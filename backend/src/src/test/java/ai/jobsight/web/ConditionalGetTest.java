@@ -0,0 +1,71 @@
+package ai.jobsight.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 200 with ETag and one Cache-Control, or 304 without computing the body. */
+class ConditionalGetTest {
+
+    private static final CacheControl CACHE = CacheControl.maxAge(Duration.ofSeconds(60)).cachePublic();
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/stats/skills");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final AtomicInteger computed = new AtomicInteger();
+
+    private ResponseEntity<String> respond(String version, boolean weak) {
+        return ConditionalGet.respond(new ServletWebRequest(request, response), version, weak, CACHE,
+                () -> "body-" + computed.incrementAndGet());
+    }
+
+    @Test
+    void okCarriesETagAndCacheControlOnce() {
+        ResponseEntity<String> r = respond("v1", false);
+
+        assertThat(r.getStatusCode().value()).isEqualTo(200);
+        assertThat(r.getBody()).isEqualTo("body-1");
+        assertThat(r.getHeaders().getETag()).isEqualTo("\"v1\"");
+        assertThat(r.getHeaders().get(HttpHeaders.CACHE_CONTROL)).containsExactly("max-age=60, public");
+        assertThat(response.getHeaders(HttpHeaders.CACHE_CONTROL)).isEmpty();
+    }
+
+    @Test
+    void matchingVersionIsNotModifiedWithoutComputingTheBody() {
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"v1\"");
+
+        assertThat(respond("v1", false)).isNull();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"v1\"");
+        assertThat(response.getHeaders(HttpHeaders.CACHE_CONTROL)).containsExactly("max-age=60, public");
+        assertThat(computed).hasValue(0);
+    }
+
+    @Test
+    void otherVersionGetsTheNewBody() {
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"v1\"");
+
+        ResponseEntity<String> r = respond("v2", false);
+
+        assertThat(r.getStatusCode().value()).isEqualTo(200);
+        assertThat(r.getHeaders().getETag()).isEqualTo("\"v2\"");
+    }
+
+    @Test
+    void weakVersionsRevalidate() {
+        assertThat(respond("v1", true).getHeaders().getETag()).isEqualTo("W/\"v1\"");
+
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"v1\"");
+        assertThat(respond("v1", true)).isNull();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(computed).hasValue(1);
+    }
+}